@@ -0,0 +1,74 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.util.ChainCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Helpers de hash e codificação que todo registro de clérigo executa.
+// Fica no pacote de ClergyService para chamar os métodos package-private;
+// nenhum deles usa os campos injetados, então um `new` basta.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClergyEncodingBenchmark {
+
+    private ClergyService service;
+    private ClergyDTO dto;
+    private String hash;
+    private byte[] instructionData;
+
+    @Setup
+    public void setUp() {
+        service = new ClergyService();
+
+        dto = new ClergyDTO();
+        dto.setParentHash("0x5f1b1a0e6f2e7c3b9d4a8c2e1f0b3a7d6c5e4f3a2b1c0d9e8f7a6b5c4d3e2f1a");
+        dto.setName("Dom João Inácio de Albuquerque");
+        dto.setRole(Clergy.Role.BISHOP);
+        dto.setStartDate(LocalDate.of(1987, 3, 19));
+        hash = service.generateDeterministicHash(dto);
+        dto.setHash(hash);
+        instructionData = service.buildAnchorInstructionData(dto);
+    }
+
+    @Benchmark
+    public String generateHashRaw() {
+        return service.generateHashRaw("GOD_Jesus Cristo_ROOT_1970-01-01");
+    }
+
+    @Benchmark
+    public String generateDeterministicHash() {
+        return service.generateDeterministicHash(dto);
+    }
+
+    @Benchmark
+    public byte[] hashToSeedBytes() {
+        return service.hashToSeedBytes(hash);
+    }
+
+    @Benchmark
+    public String bytesToHex() {
+        return ChainCodec.toHex(instructionData);
+    }
+
+    @Benchmark
+    public byte[] buildAnchorInstructionData() {
+        return service.buildAnchorInstructionData(dto);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.p2p.solanaj.core.PublicKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// findProgramAddress (busca do bump: SHA-256 + checagem de curva por tentativa)
+// contra createProgramAddress com o bump já conhecido.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdaDerivationBenchmark {
+
+    private static final PublicKey PROGRAM_ID = new PublicKey("HKUdr1NeewdqE3vEzHmAu9waow5p4bHg6V6t4iM5cLhK");
+
+    private List<byte[]> seeds;
+    private List<byte[]> seedsWithBump;
+
+    @Setup
+    public void setUp() throws Exception {
+        ClergyService service = new ClergyService();
+        String hash = service.generateHashRaw("GOD_Jesus Cristo_ROOT_1970-01-01");
+        seeds = List.of("clergy".getBytes(StandardCharsets.UTF_8), service.hashToSeedBytes(hash));
+
+        int bump = PublicKey.findProgramAddress(seeds, PROGRAM_ID).getNonce();
+        seedsWithBump = List.of(seeds.get(0), seeds.get(1), new byte[] {(byte) bump});
+    }
+
+    @Benchmark
+    public PublicKey findProgramAddress() throws Exception {
+        return PublicKey.findProgramAddress(seeds, PROGRAM_ID).getAddress();
+    }
+
+    @Benchmark
+    public PublicKey createProgramAddressWithKnownBump() throws Exception {
+        return PublicKey.createProgramAddress(seedsWithBump, PROGRAM_ID);
+    }
+}
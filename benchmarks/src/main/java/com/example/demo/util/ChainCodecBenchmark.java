@@ -0,0 +1,50 @@
+package com.example.demo.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Discriminator pré-calculado e writers Borsh escrevendo num buffer reaproveitado
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainCodecBenchmark {
+
+    private static final String HASH = "0x9a3c1f7e5b2d4a6c8e0f1b3d5a7c9e2f4b6d8a0c1e3f5b7d9a2c4e6f8b0d1a3c";
+    private static final String PARENT_HASH = "0x5f1b1a0e6f2e7c3b9d4a8c2e1f0b3a7d6c5e4f3a2b1c0d9e8f7a6b5c4d3e2f1a";
+    private static final String NAME = "Dom João Inácio de Albuquerque";
+
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        buffer = new byte[ChainCodec.createClergySize(HASH, PARENT_HASH, NAME, null)];
+    }
+
+    @Benchmark
+    public byte[] discriminator() {
+        return ChainCodec.discriminator("initialize_genesis");
+    }
+
+    @Benchmark
+    public byte[] fromHex() {
+        return ChainCodec.fromHex(HASH);
+    }
+
+    @Benchmark
+    public int putCreateClergy() {
+        return ChainCodec.putCreateClergy(buffer, 0, HASH, PARENT_HASH, NAME, 0, 6651L, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.util;
+
+import com.example.demo.model.Clergy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Laço quente do ChainIndexer: uma conta Clergy decodificada a partir dos bytes e a
+// partir do base64 do getMultipleAccounts, e um lote inteiro de 100 contas
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClergyAccountDecoderBenchmark {
+
+    private static final String HASH = "0x9a3c1f7e5b2d4a6c8e0f1b3d5a7c9e2f4b6d8a0c1e3f5b7d9a2c4e6f8b0d1a3c";
+    private static final String PARENT_HASH = "0x5f1b1a0e6f2e7c3b9d4a8c2e1f0b3a7d6c5e4f3a2b1c0d9e8f7a6b5c4d3e2f1a";
+    private static final String NAME = "Dom João Inácio de Albuquerque";
+    private static final int BATCH = 100;
+
+    private byte[] bishop;
+    private String pope;
+    private byte[][] batch;
+
+    @Setup
+    public void setUp() {
+        bishop = ChainCodec.clergyAccountData(HASH, PARENT_HASH, NAME, 0, 6651L, null, 254);
+        pope = Base64.getEncoder().encodeToString(
+                ChainCodec.clergyAccountData(HASH, PARENT_HASH, NAME, 1, 6651L, 7300L, 253));
+        batch = new byte[BATCH][];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = ChainCodec.clergyAccountData(ChainCodec.sha256Hex0x("clergy-" + i), PARENT_HASH,
+                    NAME + " " + i, i % 2, 6651L + i, i % 2 == 0 ? null : 7300L + i, 255 - i % 3);
+        }
+    }
+
+    @Benchmark
+    public Clergy decode() {
+        return ClergyAccountDecoder.decode(bishop);
+    }
+
+    @Benchmark
+    public Clergy decodeFromBase64() {
+        return ClergyAccountDecoder.decode(Base64.getDecoder().decode(pope));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void decodeBatch(Blackhole bh) {
+        for (byte[] account : batch) bh.consume(ClergyAccountDecoder.decode(account));
+    }
+}
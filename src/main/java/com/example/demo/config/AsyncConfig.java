@@ -1,9 +1,103 @@
 // AsyncConfig.java
 package com.example.demo.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableAsync
-public class AsyncConfig {}
\ No newline at end of file
+@EnableScheduling
+public class AsyncConfig {
+
+    // O que fazer quando a fila do executor de analytics está cheia
+    public enum RejectionPolicy {
+        DROP,        // descarta a tarefa e só conta
+        COALESCE,    // recusa; quem enviou junta o trabalho ao próximo envio
+        CALLER_RUNS  // roda na thread de quem enviou
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${analytics.executor.threads:1}")
+    private int threads;
+
+    @Value("${analytics.executor.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Value("${analytics.executor.rejection-policy:COALESCE}")
+    private RejectionPolicy rejectionPolicy;
+
+    // Qualquer bean Executor desliga o applicationTaskExecutor do Boot; sem ele o MVC
+    // async (StreamingResponseBody, CompletableFuture) cairia num SimpleAsyncTaskExecutor
+    // sem limite. Declarado aqui com o builder do Boot (spring.task.execution.*), pelos
+    // mesmos nomes: o MVC async e o @Async usam este pool, nunca o de analytics.
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // Fila limitada e poucas threads: analytics nunca segura mais do que `threads`
+    // conexões do Hikari nem acumula trabalho sem limite em memória.
+    @Bean
+    public ThreadPoolTaskExecutor analyticsExecutor() {
+        Timer latency = Timer.builder("analytics.executor.latency")
+                .description("Tempo entre o envio e o fim da tarefa (fila + execução)")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("analytics.executor.rejected")
+                .tag("policy", rejectionPolicy.name())
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analytics-");
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                try {
+                    task.run();
+                } finally {
+                    latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        executor.setRejectedExecutionHandler(rejectionHandler(rejected));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        Gauge.builder("analytics.executor.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Tarefas de analytics aguardando na fila")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private RejectedExecutionHandler rejectionHandler(Counter rejected) {
+        return (task, pool) -> {
+            rejected.increment();
+            switch (rejectionPolicy) {
+                case DROP -> { }
+                case CALLER_RUNS -> {
+                    if (!pool.isShutdown()) task.run();
+                }
+                case COALESCE -> throw new RejectedExecutionException("Fila de analytics cheia.");
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+// src/main/java/com/example/demo/config/ClergyImportRunner.java
+package com.example.demo.config;
+
+import com.example.demo.dto.ClergyImportReportDTO;
+import com.example.demo.service.ClergyImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Importação em massa pela linha de comando, no mesmo jar:
+//   java -jar app.jar --clergy.import.file=linhagens.csv
+// Roda depois dos demais listeners de startup (blockhash, outbox) e, por padrão,
+// encerra a aplicação no fim com código 1 se algum registro falhou.
+@Component
+public class ClergyImportRunner {
+
+    @Autowired
+    private ClergyImportService importService;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Value("${clergy.import.file:}")
+    private String file;
+
+    @Value("${clergy.import.checkpoint:}")
+    private String checkpoint;
+
+    @Value("${clergy.import.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void run() {
+        if (file == null || file.isBlank()) return;
+
+        int exitCode;
+        try {
+            Path path = Path.of(file);
+            if (!Files.isRegularFile(path)) throw new RuntimeException("Arquivo não encontrado: " + path);
+            Path checkpointPath = checkpoint == null || checkpoint.isBlank()
+                    ? Path.of(file + ".checkpoint")
+                    : Path.of(checkpoint);
+
+            System.out.println("ClergyImportRunner: importando " + path + " (checkpoint " + checkpointPath + ").");
+            ClergyImportReportDTO report = importService.importFile(path, checkpointPath);
+            System.out.println("ClergyImportRunner: " + report.getTotal() + " registros em " + report.getLayers()
+                    + " camadas: " + report.getConfirmed() + " confirmados, " + report.getSkipped() + " já existiam, "
+                    + report.getResumed() + " retomados do checkpoint, " + report.getFailed() + " com erro em "
+                    + report.getElapsedMs() + " ms (" + String.format("%.1f", report.getItemsPerSecond()) + " itens/s).");
+            report.getErrors().forEach(error -> System.err.println("ClergyImportRunner: " + error));
+            if (report.getFailed() > report.getErrors().size()) {
+                System.err.println("ClergyImportRunner: ... e mais " + (report.getFailed() - report.getErrors().size()) + " erros.");
+            }
+            exitCode = report.getFailed() > 0 ? 1 : 0;
+        } catch (Exception e) {
+            System.err.println("ClergyImportRunner: falha na importação. " + e.getMessage());
+            exitCode = 2;
+        }
+
+        if (exitWhenDone) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// src/main/java/com/example/demo/config/RecentBlockhashProvider.java
+package com.example.demo.config;
+
+import com.example.demo.solana.SolanaRpcGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Blockhash recente em cache, renovado em background bem dentro da janela de
+// validade (~150 slots, 60-90s). Os builders de transação leem daqui sem RPC;
+// o RPC só é chamado sob demanda quando o cache envelhece ou o envio falha
+// com "Blockhash not found".
+@Component
+public class RecentBlockhashProvider {
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${solana.blockhash.max-age-ms:30000}")
+    private long maxAgeMs;
+
+    private volatile Cached cached;
+    private final Object refreshLock = new Object();
+
+    private Counter scheduledRefreshes;
+    private Counter onDemandRefreshes;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("solana.blockhash.age", this, RecentBlockhashProvider::currentAgeMillis)
+                .baseUnit("milliseconds")
+                .description("Idade do blockhash em cache")
+                .register(meterRegistry);
+        scheduledRefreshes = Counter.builder("solana.blockhash.refresh").tag("source", "scheduled").register(meterRegistry);
+        onDemandRefreshes = Counter.builder("solana.blockhash.refresh").tag("source", "on_demand").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${solana.blockhash.refresh-interval-ms:10000}")
+    public void refresh() {
+        try {
+            synchronized (refreshLock) {
+                fetch();
+            }
+            scheduledRefreshes.increment();
+        } catch (Exception e) {
+            System.err.println("RecentBlockhashProvider: falha ao renovar blockhash: " + e.getMessage());
+        }
+    }
+
+    public String get() throws Exception {
+        Cached c = cached;
+        if (c != null && ageMillis(c) < maxAgeMs) return c.blockhash;
+
+        synchronized (refreshLock) {
+            c = cached;
+            if (c != null && ageMillis(c) < maxAgeMs) return c.blockhash;
+            onDemandRefreshes.increment();
+            return fetch();
+        }
+    }
+
+    // Chamado quando o envio falha com "Blockhash not found". Se outra thread já
+    // trocou o blockhash rejeitado, reaproveita o novo em vez de buscar de novo.
+    public String refreshAfterFailure(String rejectedBlockhash) throws Exception {
+        synchronized (refreshLock) {
+            Cached c = cached;
+            if (c != null && !c.blockhash.equals(rejectedBlockhash)) return c.blockhash;
+            onDemandRefreshes.increment();
+            return fetch();
+        }
+    }
+
+    public static boolean isBlockhashNotFound(Exception e) {
+        String message = e.getMessage();
+        return message != null && message.toLowerCase().contains("blockhash not found");
+    }
+
+    private String fetch() throws Exception {
+        String blockhash = rpc.getLatestBlockhash();
+        cached = new Cached(blockhash, System.nanoTime());
+        return blockhash;
+    }
+
+    private double currentAgeMillis() {
+        Cached c = cached;
+        return c == null ? Double.NaN : ageMillis(c);
+    }
+
+    private static long ageMillis(Cached c) {
+        return (System.nanoTime() - c.fetchedAtNanos) / 1_000_000L;
+    }
+
+    private record Cached(String blockhash, long fetchedAtNanos) {}
+}
@@ -1,9 +1,15 @@
 // src/main/java/com/example/demo/config/SolanaConfig.java
 package com.example.demo.config;
 
+import com.example.demo.solana.FakeSolanaRpcGateway;
+import com.example.demo.solana.HttpSolanaRpcGateway;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.solana.SolanaRpcProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.p2p.solanaj.core.Account;
-import org.p2p.solanaj.rpc.RpcClient;
+import org.p2p.solanaj.core.PublicKey;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,17 +17,22 @@ import java.util.Arrays;
 import java.util.List;
 
 @Configuration
+@EnableConfigurationProperties(SolanaRpcProperties.class)
 public class SolanaConfig {
 
-    @Value("${solana.rpc.url}")
-    private String rpcUrl;
+    @Value("${solana.program.id}")
+    private String programId;
 
     @Value("${solana.wallet.mnemonic}")
     private String mnemonic;
 
+    // solana.rpc.mode=fake troca a rede por um ledger em memória (dev/testes offline)
     @Bean
-    public RpcClient solanaConnection() {
-        return new RpcClient(rpcUrl);
+    public SolanaRpcGateway solanaRpcGateway(SolanaRpcProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getMode() == SolanaRpcProperties.Mode.FAKE) {
+            return new FakeSolanaRpcGateway(new PublicKey(programId));
+        }
+        return new HttpSolanaRpcGateway(properties, meterRegistry);
     }
 
     @Bean
@@ -29,4 +40,4 @@ public class SolanaConfig {
         List<String> words = Arrays.asList(mnemonic.split(" "));
         return Account.fromBip39Mnemonic(words, "");
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,29 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.ChainIndexerStatusDTO;
+import com.example.demo.dto.ClergyBatchJobDTO;
+import com.example.demo.dto.ClergyCursorPageDTO;
 import com.example.demo.dto.ClergyDTO;
+import com.example.demo.dto.ClergyJobDTO;
+import com.example.demo.dto.ConsistencyAuditDTO;
 import com.example.demo.dto.DashboardStatsDTO;
 import com.example.demo.dto.GenesisDTO;
 import com.example.demo.model.Clergy;
+import com.example.demo.service.ChainIndexer;
+import com.example.demo.service.ClergyBatchService;
+import com.example.demo.service.ClergyConsistencyAuditor;
+import com.example.demo.service.ClergyRegistrationPipeline;
 import com.example.demo.service.ClergyService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/api/clergy")
 @CrossOrigin(origins = "*")
@@ -20,44 +32,142 @@ public class ClergyController {
     @Autowired
     private ClergyService clergyService;
 
+    @Autowired
+    private ClergyRegistrationPipeline registrationPipeline;
+
+    @Autowired
+    private ClergyBatchService clergyBatchService;
+
+    @Autowired
+    private ChainIndexer chainIndexer;
+
+    @Autowired
+    private ClergyConsistencyAuditor consistencyAuditor;
+
+    // Sem ?cursor: resposta Page<Clergy> (?page=&size=), como sempre foi.
+    // Com ?cursor (vazio na primeira página): paginação por cursor (&size=&includeTotal=).
     @GetMapping("/popes")
-public ResponseEntity<Page<Clergy>> getPopes(
+public ResponseEntity<?> getPopes(
     @RequestParam(defaultValue = "0") int page,
-    @RequestParam(defaultValue = "20") int size) {
-    return ResponseEntity.ok(
-        clergyService.findByRole("POPE", PageRequest.of(page, size, Sort.by("papacy_start_date")))
-    );
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") int size,
+    @RequestParam(defaultValue = "false") boolean includeTotal) {
+    if (cursor == null) {
+        return ResponseEntity.ok(
+            clergyService.findByRole(Clergy.Role.POPE, PageRequest.of(page, size))
+        );
+    }
+    return cursorPage(Clergy.Role.POPE, cursor, size, includeTotal);
 }
 
 @GetMapping("/bishops")
-public ResponseEntity<Page<Clergy>> getBishops(
+public ResponseEntity<?> getBishops(
     @RequestParam(defaultValue = "0") int page,
-    @RequestParam(defaultValue = "30") int size) {
-    return ResponseEntity.ok(
-        clergyService.findByRole("BISHOP", PageRequest.of(page, size, Sort.by("start_date")))
-    );
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "30") int size,
+    @RequestParam(defaultValue = "false") boolean includeTotal) {
+    if (cursor == null) {
+        return ResponseEntity.ok(
+            clergyService.findByRole(Clergy.Role.BISHOP, PageRequest.of(page, size))
+        );
+    }
+    return cursorPage(Clergy.Role.BISHOP, cursor, size, includeTotal);
 }
 
+    private ResponseEntity<?> cursorPage(Clergy.Role role, String cursor, int size, boolean includeTotal) {
+        try {
+            ClergyCursorPageDTO result = clergyService.findByRoleAfter(role, cursor, size, includeTotal);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> registerClergy(@RequestBody ClergyDTO request) {
         try {
-            Clergy savedClergy = clergyService.createClergy(request);
-            return ResponseEntity.ok(savedClergy);
+            ClergyJobDTO job = registrationPipeline.enqueue(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/clergy/jobs/" + job.getId()))
+                    .body(job);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // 202 com o id do job; o resultado por item sai em GET /batch/{id} quando o lote terminar
+    @PostMapping("/batch")
+    public ResponseEntity<?> registerBatch(@RequestBody List<ClergyDTO> request) {
+        try {
+            ClergyBatchJobDTO job = clergyBatchService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/clergy/batch/" + job.getId()))
+                    .body(job);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/batch/{id}")
+    public ResponseEntity<ClergyBatchJobDTO> getBatch(@PathVariable String id) {
+        ClergyBatchJobDTO job = clergyBatchService.getJob(id);
+        if (job == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ClergyJobDTO> getJob(@PathVariable String id) {
+        ClergyJobDTO job = registrationPipeline.getJob(id);
+        if (job == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(job);
+    }
+
+    // Resposta assíncrona: a thread do Tomcat é liberada enquanto a TX confirma
     @PostMapping("/genesis")
-    public ResponseEntity<?> initializeGenesis(@RequestBody GenesisDTO request) {
+    public CompletableFuture<ResponseEntity<?>> initializeGenesis(@RequestBody GenesisDTO request) {
         try {
-            clergyService.initializeGenesis(request);
-            return ResponseEntity.ok("{\"success\": true, \"message\": \"Gênesis Inicializado: Jesus -> Pedro\"}");
+            return clergyService.initializeGenesis(request)
+                    .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(
+                            "{\"success\": true, \"message\": \"Gênesis Inicializado: Jesus -> Pedro\"}"))
+                    .exceptionally(e -> genesisError(e instanceof CompletionException && e.getCause() != null
+                            ? e.getCause() : e));
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body("{\"success\": false, \"message\": \"" + e.getMessage() + "\"}");
+            return CompletableFuture.completedFuture(genesisError(e));
         }
     }
 
+    private ResponseEntity<?> genesisError(Throwable e) {
+        return ResponseEntity.badRequest().body("{\"success\": false, \"message\": \"" + e.getMessage() + "\"}");
+    }
+
+    // Reconstrói clergy a partir das contas do programa; roda em segundo plano
+    @PostMapping("/indexer/sync")
+    public ResponseEntity<?> syncFromChain() {
+        if (!chainIndexer.trigger()) {
+            return ResponseEntity.badRequest().body("Indexação já em andamento.");
+        }
+        return ResponseEntity.accepted().body(chainIndexer.getStatus());
+    }
+
+    @GetMapping("/indexer")
+    public ResponseEntity<ChainIndexerStatusDTO> getIndexerStatus() {
+        return ResponseEntity.ok(chainIndexer.getStatus());
+    }
+
+    // Banco x chain por árvore de Merkle; roda em segundo plano
+    @PostMapping("/audit")
+    public ResponseEntity<?> startAudit() {
+        if (!consistencyAuditor.trigger()) {
+            return ResponseEntity.badRequest().body("Auditoria já em andamento.");
+        }
+        return ResponseEntity.accepted().body(consistencyAuditor.getLast());
+    }
+
+    @GetMapping("/audit")
+    public ResponseEntity<ConsistencyAuditDTO> getAudit() {
+        return ResponseEntity.ok(consistencyAuditor.getLast());
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsDTO> getStats() {
         return ResponseEntity.ok(clergyService.getDashboardStats());
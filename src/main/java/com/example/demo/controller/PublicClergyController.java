@@ -1,13 +1,23 @@
 // PublicClergyController.java
 package com.example.demo.controller;
 
+import com.example.demo.dto.CommonAncestorDTO;
+import com.example.demo.dto.DescendantsPageDTO;
 import com.example.demo.model.Clergy;
+import com.example.demo.service.ClergyDescendantsService;
+import com.example.demo.service.ClergyExportService;
 import com.example.demo.service.PublicClergyService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/public/clergy")
@@ -16,6 +26,12 @@ public class PublicClergyController {
     @Autowired
     private PublicClergyService publicClergyService;
 
+    @Autowired
+    private ClergyDescendantsService descendantsService;
+
+    @Autowired
+    private ClergyExportService exportService;
+
     @GetMapping("/main-chain")
     public ResponseEntity<List<Clergy>> getMainChain() {
         return ResponseEntity.ok(publicClergyService.getInitialChain());
@@ -41,5 +57,68 @@ public class PublicClergyController {
         if (result.isEmpty()) return ResponseEntity.notFound().build();
         return ResponseEntity.ok(result);
     }
+
+    // Grafo inteiro em NDJSON (padrão) ou CSV; gzip quando o cliente aceita. Servido do
+    // snapshot em arquivo: sem conexão do pool presa e sem o timeout de requisição async.
+    @GetMapping("/export")
+    public ResponseEntity<Resource> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        ClergyExportService.Format exportFormat;
+        try {
+            exportFormat = ClergyExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        ClergyExportService.Snapshot snapshot;
+        try {
+            snapshot = exportService.snapshot(exportFormat);
+        } catch (Exception e) {
+            System.err.println("PublicClergyController: falha ao gerar exportação. " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+
+        String extension = exportFormat == ClergyExportService.Format.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == ClergyExportService.Format.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clergy." + extension + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response
+                .lastModified(snapshot.builtAt())
+                .body(new FileSystemResource(gzip ? snapshot.gzip() : snapshot.plain()));
+    }
+
+    @GetMapping("/common-ancestor")
+    public ResponseEntity<CommonAncestorDTO> commonAncestor(@RequestParam String a, @RequestParam String b) {
+        CommonAncestorDTO result = publicClergyService.getCommonAncestor(a, b);
+        if (result == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{hash}/descendants")
+    public ResponseEntity<DescendantsPageDTO> getDescendants(
+            @PathVariable String hash,
+            @RequestParam(defaultValue = "150") int maxDepth,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        DescendantsPageDTO result = descendantsService.getDescendants(hash, maxDepth, page, size);
+        if (result == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{hash}/descendants/count")
+    public ResponseEntity<Map<String, Object>> countDescendants(
+            @PathVariable String hash,
+            @RequestParam(defaultValue = "150") int maxDepth) {
+        Long count = descendantsService.countDescendants(hash, maxDepth);
+        if (count == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(Map.of("hash", hash, "count", count));
+    }
     
 }
@@ -1,45 +1,52 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.PublicStatsDTO;
-import com.example.demo.repository.ClergyRepository;
-import com.example.demo.repository.DailyVisitRepository;
-import com.example.demo.repository.SiteAnalyticsRepository;
+import com.example.demo.service.PublicStatsSnapshotService;
+import com.example.demo.service.PublicStatsSnapshotService.Snapshot;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/public/stats")
 @CrossOrigin(origins = "*")
 public class PublicStatsController {
 
     @Autowired
-    private ClergyRepository clergyRepository;
-
-    @Autowired
-    private SiteAnalyticsRepository siteAnalyticsRepository;
+    private PublicStatsSnapshotService statsSnapshotService;
 
-    @Autowired
-    private DailyVisitRepository dailyVisitRepository;
+    @Value("${stats.snapshot.max-age-seconds:30}")
+    private long maxAgeSeconds;
 
+    // Servido do snapshot em memória, sem tocar no banco
     @GetMapping
-    public ResponseEntity<PublicStatsDTO> getPublicStats() {
-        PublicStatsDTO stats = new PublicStatsDTO();
-
-        long bishops = clergyRepository.countBishops();
-        long popes   = clergyRepository.countPopes();
-        stats.setTotalBishops(bishops);
-        stats.setTotalPopes(popes);
-        stats.setTotalClergy(bishops + popes);
-
-       
-        stats.setTotalViews(siteAnalyticsRepository.sumAllViews());
-        Long today = dailyVisitRepository.findTodayViews();
-        stats.setTodayViews(today != null ? today : 0L);
-
-      
-        stats.setRecentPopes(clergyRepository.findTop6RecentPopes());
-
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<PublicStatsDTO> getPublicStats(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        Snapshot snapshot = statsSnapshotService.current();
+        if (snapshot == null) {
+            statsSnapshotService.rebuild();
+            snapshot = statsSnapshotService.current();
+        }
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.stats());
     }
 }
@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import lombok.Data;
+import java.time.Instant;
+
+@Data
+public class ChainIndexerStatusDTO {
+    private boolean running;
+    private String resumedAfter;
+    private int accountsOnChain;
+    private int alreadyIndexed;
+    private int fetched;
+    private int inserted;
+    private int invalid;
+    private String error;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
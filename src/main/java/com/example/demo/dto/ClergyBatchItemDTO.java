@@ -0,0 +1,18 @@
+// src/main/java/com/example/demo/dto/ClergyBatchItemDTO.java
+package com.example.demo.dto;
+
+import lombok.Data;
+
+@Data
+public class ClergyBatchItemDTO {
+    private int index;
+    private String hash;
+    private String name;
+    private Status status;
+    private String signature;
+    private String error;
+
+    public enum Status {
+        CONFIRMED, FAILED, SKIPPED
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/example/demo/dto/ClergyBatchJobDTO.java
+package com.example.demo.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+public class ClergyBatchJobDTO {
+    private String id;
+    private Status status;
+    private int total;
+    private int confirmed;
+    private int skipped;
+    private int failed;
+    // Resultado por item, na ordem do pedido; preenchido quando o lote termina
+    private List<ClergyBatchItemDTO> items;
+    private String error;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public enum Status {
+        RUNNING, DONE, FAILED
+    }
+}
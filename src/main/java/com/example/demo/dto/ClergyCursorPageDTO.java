@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Clergy;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ClergyCursorPageDTO {
+    private List<Clergy> items;
+    private int size;
+    // null na última página
+    private String nextCursor;
+    // Só vem preenchido com includeTotal=true
+    private Long total;
+}
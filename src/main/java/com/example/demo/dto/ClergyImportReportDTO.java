@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ClergyImportReportDTO {
+    private String file;
+    private int total;
+    private int layers;
+    // Já confirmados numa execução anterior (arquivo de checkpoint)
+    private int resumed;
+    private int confirmed;
+    private int skipped;
+    private int failed;
+    // Só as primeiras falhas
+    private List<String> errors = new ArrayList<>();
+    private long elapsedMs;
+    private double itemsPerSecond;
+}
@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+// Um registro do arquivo de importação. Aceita o formato da exportação (camelCase no
+// JSON, snake_case no CSV); id/parentId são referências locais ao próprio arquivo.
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClergyImportRowDTO {
+    private String id;
+    @JsonAlias("parent_id")
+    private String parentId;
+    @JsonAlias("parent_hash")
+    private String parentHash;
+    // Opcional: quando vem, precisa bater com o hash calculado
+    private String hash;
+    private String name;
+    private String role;
+    @JsonAlias("start_date")
+    private String startDate;
+    @JsonAlias("papacy_start_date")
+    private String papacyStartDate;
+
+    // Posição no arquivo (1 = primeiro registro), para as mensagens de erro
+    @JsonIgnore
+    private int record;
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/example/demo/dto/ClergyJobDTO.java
+package com.example.demo.dto;
+
+import lombok.Data;
+import java.time.Instant;
+
+@Data
+public class ClergyJobDTO {
+    private String id;
+    private Status status;
+    private String hash;
+    private String name;
+    private String signature;
+    private String error;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public enum Status {
+        QUEUED, SUBMITTED, CONFIRMED, FAILED
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Clergy;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CommonAncestorDTO {
+    // null quando os dois não compartilham nenhum ancestral
+    private Clergy ancestor;
+    // Do nó até o ancestral, ambos inclusive
+    private List<Clergy> pathFromA;
+    private List<Clergy> pathFromB;
+}
@@ -0,0 +1,39 @@
+package com.example.demo.dto;
+
+import lombok.Data;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ConsistencyAuditDTO {
+    private boolean running;
+    private Boolean consistent;
+    private String databaseRoot;
+    private String chainRoot;
+    private int buckets;
+    private int mismatchedBuckets;
+    private int databaseRows;
+    private int chainAccounts;
+    // Contas lidas nesta execução (as demais vieram do cache de auditorias anteriores)
+    private int fetchedAccounts;
+    private int rpcCalls;
+    private int totalDiscrepancies;
+    // Só as primeiras `clergy.audit.max-reported` divergências
+    private List<Discrepancy> discrepancies = new ArrayList<>();
+    private String error;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Long durationMs;
+
+    @Data
+    public static class Discrepancy {
+        private Kind kind;
+        private String hash;
+        private String address;
+
+        public enum Kind {
+            MISSING_ON_CHAIN, MISSING_IN_DATABASE, MISMATCH, INVALID_ACCOUNT
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Clergy;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class DescendantsPageDTO {
+    private String hash;
+    private int maxDepth;
+    private int page;
+    private int size;
+    private long total;
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+        private int depth;
+        private Clergy clergy;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "chain_indexer_checkpoint")
+public class ChainIndexerCheckpoint {
+
+    @Id
+    private Integer id;
+
+    // Última conta (base58, em ordem) já gravada pela execução em andamento; null entre execuções
+    @Column(name = "last_key", length = 44)
+    private String lastKey;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Totais da última execução completa
+    @Column(name = "accounts_seen", nullable = false)
+    private int accountsSeen;
+
+    @Column(nullable = false)
+    private int inserted;
+
+    // Linhas gravadas cujo fechamento de descendentes ainda não foi completado
+    @Column(name = "closure_pending", nullable = false)
+    private boolean closurePending;
+}
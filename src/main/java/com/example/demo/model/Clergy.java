@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
@@ -36,6 +37,11 @@ private Role role;
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // Bump da PDA on-chain (ver ClergyPdaResolver); detalhe interno, fora da API
+    @JsonIgnore
+    @Column(name = "pda_bump")
+    private Integer pdaBump;
+
     public enum Role {
         BISHOP, POPE, ROOT
     }
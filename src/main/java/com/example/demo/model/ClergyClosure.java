@@ -0,0 +1,42 @@
+// ClergyClosure.java
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// Tabela de fechamento da árvore de sucessão: uma linha por par (ancestral, descendente),
+// incluindo o próprio nó com depth 0. A PK (ancestor_hash, depth, descendant_hash) faz de
+// "descendentes de X até a profundidade N" um range scan, sem CTE recursiva.
+@Data
+@Entity
+@IdClass(ClergyClosure.Key.class)
+@Table(name = "clergy_closure", indexes = {
+        @Index(name = "idx_clergy_closure_descendant", columnList = "descendant_hash")
+})
+public class ClergyClosure {
+
+    @Id
+    @Column(name = "ancestor_hash", length = 66, nullable = false)
+    private String ancestorHash;
+
+    @Id
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Id
+    @Column(name = "descendant_hash", length = 66, nullable = false)
+    private String descendantHash;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String ancestorHash;
+        private int depth;
+        private String descendantHash;
+    }
+}
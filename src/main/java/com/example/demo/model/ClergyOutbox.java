@@ -0,0 +1,48 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Clérigo cuja transação create_clergy (ou genesis) foi montada mas ainda não virou
+// linha em clergy. signature fica null até o envio responder.
+@Data
+@Entity
+@Table(name = "clergy_outbox")
+public class ClergyOutbox {
+
+    @Id
+    @Column(length = 66, nullable = false)
+    private String hash;
+
+    @Column(name = "parent_hash", length = 66)
+    private String parentHash;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private Clergy.Role role;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "papacy_start_date")
+    private LocalDate papacyStartDate;
+
+    // Endereço base58 da conta do clérigo: é o que a reconciliação consulta on-chain
+    @Column(nullable = false, length = 44)
+    private String pda;
+
+    @Column(length = 88)
+    private String signature;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
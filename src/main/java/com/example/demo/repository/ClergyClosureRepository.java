@@ -0,0 +1,69 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ClergyClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ClergyClosureRepository extends JpaRepository<ClergyClosure, ClergyClosure.Key> {
+
+    // Novo nó herda os ancestrais do pai (depth + 1) e ganha a linha de si mesmo
+    @Modifying
+    @Query(value = """
+        INSERT INTO clergy_closure (ancestor_hash, depth, descendant_hash)
+        SELECT ancestor_hash, depth + 1, :hash
+        FROM clergy_closure
+        WHERE descendant_hash = :parentHash
+        UNION ALL
+        SELECT :hash, 0, :hash
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    void insertNode(@Param("hash") String hash, @Param("parentHash") String parentHash);
+
+    // Preenche a tabela a partir de clergy.parent_hash (uma vez, quando está incompleta)
+    @Modifying
+    @Query(value = """
+        WITH RECURSIVE closure AS (
+            SELECT hash AS ancestor_hash, 0 AS depth, hash AS descendant_hash
+            FROM clergy
+
+            UNION ALL
+
+            SELECT cl.ancestor_hash, cl.depth + 1, c.hash
+            FROM closure cl
+            INNER JOIN clergy c ON c.parent_hash = cl.descendant_hash
+            WHERE cl.depth < 150
+        )
+        INSERT INTO clergy_closure (ancestor_hash, depth, descendant_hash)
+        SELECT ancestor_hash, depth, descendant_hash FROM closure
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int backfill();
+
+    @Query(value = "SELECT count(*) FROM clergy_closure WHERE depth = 0", nativeQuery = true)
+    long countNodes();
+
+    @Query(value = """
+        SELECT descendant_hash, depth FROM clergy_closure
+        WHERE ancestor_hash = :hash
+          AND depth BETWEEN 1 AND :maxDepth
+        ORDER BY depth, descendant_hash
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Object[]> findDescendants(@Param("hash") String hash,
+                                   @Param("maxDepth") int maxDepth,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    @Query(value = """
+        SELECT count(*) FROM clergy_closure
+        WHERE ancestor_hash = :hash
+          AND depth BETWEEN 1 AND :maxDepth
+        """, nativeQuery = true)
+    long countDescendants(@Param("hash") String hash, @Param("maxDepth") int maxDepth);
+}
@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ClergyOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ClergyOutboxRepository extends JpaRepository<ClergyOutbox, String>, ClergyOutboxRepositoryCustom {
+
+    // Intenções sem novidade desde `cutoff`: o caminho normal já teria confirmado ou desistido
+    @Query("SELECT o FROM ClergyOutbox o WHERE o.updatedAt < :cutoff ORDER BY o.createdAt, o.hash")
+    List<ClergyOutbox> findStale(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+        UPDATE clergy_outbox SET signature = :signature, updated_at = :now
+        WHERE hash IN (:hashes)
+        """, nativeQuery = true)
+    void markSent(@Param("hashes") List<String> hashes,
+                  @Param("signature") String signature,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ClergyOutbox;
+
+import java.util.List;
+
+public interface ClergyOutboxRepositoryCustom {
+
+    // Grava (ou regrava, num reenvio) as intenções antes da transação sair.
+    // Uma linha que já existia volta a ficar sem assinatura e com o prazo zerado.
+    void record(List<ClergyOutbox> rows);
+}
@@ -0,0 +1,41 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ClergyOutbox;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ClergyOutboxRepositoryCustomImpl implements ClergyOutboxRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void record(List<ClergyOutbox> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(o -> {
+            if (o.getCreatedAt() == null) o.setCreatedAt(now);
+            o.setUpdatedAt(now);
+        });
+
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO clergy_outbox (hash, parent_hash, name, role, start_date, papacy_start_date, pda, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (hash) DO UPDATE SET signature = NULL, updated_at = EXCLUDED.updated_at
+            """, rows, BATCH_SIZE, (ps, o) -> {
+                ps.setString(1, o.getHash());
+                ps.setString(2, o.getParentHash());
+                ps.setString(3, o.getName());
+                ps.setString(4, o.getRole().name());
+                ps.setObject(5, o.getStartDate());
+                ps.setObject(6, o.getPapacyStartDate());
+                ps.setString(7, o.getPda());
+                ps.setObject(8, o.getCreatedAt());
+                ps.setObject(9, o.getUpdatedAt());
+            });
+    }
+}
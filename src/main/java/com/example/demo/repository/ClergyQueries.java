@@ -0,0 +1,86 @@
+package com.example.demo.repository;
+
+// SQL das consultas quentes de clergy, num lugar só para os repositórios e para o
+// ClergyQueryPlanTest. Regras para continuarem usando os índices da V3:
+//  - role comparado com literal ('BISHOP', 'POPE'); CAST(role AS text) = :role ignora o índice
+//  - papas ordenados pela mesma expressão de idx_clergy_popes_papacy
+final class ClergyQueries {
+
+    private ClergyQueries() {}
+
+    static final String BISHOPS = """
+        SELECT * FROM clergy
+        WHERE role = 'BISHOP'
+        ORDER BY start_date, hash
+        """;
+
+    static final String POPES = """
+        SELECT * FROM clergy
+        WHERE role = 'POPE'
+        ORDER BY COALESCE(papacy_start_date, DATE '9999-12-31'), hash
+        """;
+
+    static final String COUNT_BISHOPS = "SELECT count(*) FROM clergy WHERE role = 'BISHOP'";
+
+    static final String COUNT_POPES = "SELECT count(*) FROM clergy WHERE role = 'POPE'";
+
+    static final String RECENT_POPES = """
+        SELECT * FROM clergy
+        WHERE role = 'POPE'
+          AND papacy_start_date IS NOT NULL
+        ORDER BY COALESCE(papacy_start_date, DATE '9999-12-31') DESC, hash DESC
+        LIMIT 6
+        """;
+
+    // Keyset: a próxima página começa depois da última chave vista, sem OFFSET
+    static final String BISHOPS_FIRST_PAGE = """
+        SELECT * FROM clergy
+        WHERE role = 'BISHOP'
+        ORDER BY start_date, hash
+        LIMIT :limit
+        """;
+
+    static final String BISHOPS_AFTER = """
+        SELECT * FROM clergy
+        WHERE role = 'BISHOP'
+          AND (start_date, hash) > (:startDate, :hash)
+        ORDER BY start_date, hash
+        LIMIT :limit
+        """;
+
+    // Papas sem papacy_start_date vão para o fim, como no ORDER BY ASC NULLS LAST antigo
+    static final String POPES_FIRST_PAGE = """
+        SELECT * FROM clergy
+        WHERE role = 'POPE'
+        ORDER BY COALESCE(papacy_start_date, DATE '9999-12-31'), hash
+        LIMIT :limit
+        """;
+
+    static final String POPES_AFTER = """
+        SELECT * FROM clergy
+        WHERE role = 'POPE'
+          AND (COALESCE(papacy_start_date, DATE '9999-12-31'), hash) > (:papacyStartDate, :hash)
+        ORDER BY COALESCE(papacy_start_date, DATE '9999-12-31'), hash
+        LIMIT :limit
+        """;
+
+    static final String TRACE_TO_ROOT = """
+        WITH RECURSIVE lineage AS (
+            SELECT hash, parent_hash, name, role, start_date, papacy_start_date, created_at, 1 AS depth
+            FROM clergy
+            WHERE hash = :startHash
+
+            UNION ALL
+
+            SELECT c.hash, c.parent_hash, c.name, c.role, c.start_date, c.papacy_start_date, c.created_at, l.depth + 1
+            FROM clergy c
+            INNER JOIN lineage l ON l.parent_hash = c.hash
+            WHERE l.depth < 150
+              AND l.parent_hash IS NOT NULL
+              AND l.parent_hash NOT IN ('00x00x00', '00X00X00')
+        )
+        SELECT hash, parent_hash, name, role, start_date, papacy_start_date, created_at
+        FROM lineage
+        ORDER BY depth ASC
+        """;
+}
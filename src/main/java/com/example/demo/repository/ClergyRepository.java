@@ -7,28 +7,53 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface ClergyRepository extends JpaRepository<Clergy, String> {
+public interface ClergyRepository extends JpaRepository<Clergy, String>, ClergyRepositoryCustom {
+
+    // Papas por data de papado (sem data no fim) e bispos por data de sagração;
+    // o ORDER BY já vem no SQL, então o Pageable deve vir sem Sort
+    @Query(value = ClergyQueries.POPES, nativeQuery = true)
+    List<Clergy> findPopes();
 
-    @Query(value = "SELECT * FROM clergy WHERE CAST(role AS text) = :role", nativeQuery = true)
-    List<Clergy> findByRole(@Param("role") String role);
+    @Query(value = ClergyQueries.BISHOPS, nativeQuery = true)
+    List<Clergy> findBishops();
 
-    @Query(
-        value = "SELECT * FROM clergy WHERE CAST(role AS text) = :role",
-        countQuery = "SELECT count(*) FROM clergy WHERE CAST(role AS text) = :role",
-        nativeQuery = true
-    )
-    Page<Clergy> findByRole(@Param("role") String role, Pageable pageable);
+    @Query(value = ClergyQueries.POPES, countQuery = ClergyQueries.COUNT_POPES, nativeQuery = true)
+    Page<Clergy> findPopes(Pageable pageable);
 
-    @Query(value = "SELECT count(*) FROM clergy WHERE role = 'BISHOP'", nativeQuery = true)
+    @Query(value = ClergyQueries.BISHOPS, countQuery = ClergyQueries.COUNT_BISHOPS, nativeQuery = true)
+    Page<Clergy> findBishops(Pageable pageable);
+
+    @Query(value = ClergyQueries.COUNT_BISHOPS, nativeQuery = true)
     long countBishops();
 
-    @Query(value = "SELECT count(*) FROM clergy WHERE role = 'POPE'", nativeQuery = true)
+    @Query(value = ClergyQueries.COUNT_POPES, nativeQuery = true)
     long countPopes();
 
-    @Query(value = "SELECT * FROM clergy WHERE role = 'POPE' AND papacy_start_date IS NOT NULL ORDER BY papacy_start_date DESC LIMIT 6", nativeQuery = true)
+    @Query(value = ClergyQueries.RECENT_POPES, nativeQuery = true)
     List<Clergy> findTop6RecentPopes();
 
+    @Query(value = ClergyQueries.BISHOPS_FIRST_PAGE, nativeQuery = true)
+    List<Clergy> findBishopsFirstPage(@Param("limit") int limit);
+
+    @Query(value = ClergyQueries.BISHOPS_AFTER, nativeQuery = true)
+    List<Clergy> findBishopsAfter(@Param("startDate") LocalDate startDate,
+                                  @Param("hash") String hash,
+                                  @Param("limit") int limit);
+
+    @Query(value = ClergyQueries.POPES_FIRST_PAGE, nativeQuery = true)
+    List<Clergy> findPopesFirstPage(@Param("limit") int limit);
+
+    @Query(value = ClergyQueries.POPES_AFTER, nativeQuery = true)
+    List<Clergy> findPopesAfter(@Param("papacyStartDate") LocalDate papacyStartDate,
+                                @Param("hash") String hash,
+                                @Param("limit") int limit);
+
+    @Query(value = "SELECT hash, pda_bump FROM clergy", nativeQuery = true)
+    List<Object[]> findAllPdaBumps();
+
 }
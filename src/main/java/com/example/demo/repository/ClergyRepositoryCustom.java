@@ -0,0 +1,24 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Clergy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Operações em JDBC puro que não cabem em @Query (lotes, cursores)
+public interface ClergyRepositoryCustom {
+
+    int[] batchInsert(List<Clergy> rows);
+
+    // hash -> bump, só para linhas que ainda não têm o bump gravado
+    void updatePdaBumps(Map<String, Integer> bumps);
+
+    // Percorre a tabela inteira num cursor forward-only, uma linha por vez.
+    // Precisa rodar dentro de uma transação: sem ela o driver do Postgres ignora
+    // o fetch size e carrega o resultado todo em memória.
+    void streamAll(int fetchSize, Consumer<Clergy> sink);
+
+    // Igual a streamAll, em ordem de hash (auditoria por buckets de prefixo)
+    void streamAllByHash(int fetchSize, Consumer<Clergy> sink);
+}
@@ -0,0 +1,104 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Clergy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class ClergyRepositoryCustomImpl implements ClergyRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] batchInsert(List<Clergy> rows) {
+        // Preenche created_at no objeto, como o @CreationTimestamp faria num save()
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(c -> { if (c.getCreatedAt() == null) c.setCreatedAt(now); });
+
+        int[][] counts = jdbcTemplate.batchUpdate("""
+            INSERT INTO clergy (hash, parent_hash, name, role, start_date, papacy_start_date, created_at, pda_bump)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (hash) DO NOTHING
+            """, rows, BATCH_SIZE, (ps, c) -> {
+                ps.setString(1, c.getHash());
+                ps.setString(2, c.getParentHash());
+                ps.setString(3, c.getName());
+                ps.setString(4, c.getRole().name());
+                ps.setObject(5, c.getStartDate());
+                ps.setObject(6, c.getPapacyStartDate());
+                ps.setObject(7, c.getCreatedAt());
+                ps.setObject(8, c.getPdaBump(), Types.SMALLINT);
+            });
+
+        int[] flat = new int[rows.size()];
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int n : chunk) flat[i++] = n;
+        }
+        return flat;
+    }
+
+    @Override
+    public void updatePdaBumps(Map<String, Integer> bumps) {
+        jdbcTemplate.batchUpdate("""
+            UPDATE clergy SET pda_bump = ? WHERE hash = ? AND pda_bump IS NULL
+            """, new ArrayList<>(bumps.entrySet()), BATCH_SIZE, (ps, e) -> {
+                ps.setInt(1, e.getValue());
+                ps.setString(2, e.getKey());
+            });
+    }
+
+    @Override
+    public void streamAll(int fetchSize, Consumer<Clergy> sink) {
+        stream("ORDER BY created_at, hash", fetchSize, sink);
+    }
+
+    @Override
+    public void streamAllByHash(int fetchSize, Consumer<Clergy> sink) {
+        stream("ORDER BY hash", fetchSize, sink);
+    }
+
+    private void stream(String orderBy, int fetchSize, Consumer<Clergy> sink) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                SELECT hash, parent_hash, name, role, start_date, papacy_start_date, created_at, pda_bump
+                FROM clergy
+                """ + orderBy, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, rs -> {
+            sink.accept(mapRow(rs));
+        });
+    }
+
+    private static Clergy mapRow(ResultSet rs) throws SQLException {
+        Clergy c = new Clergy();
+        c.setHash(rs.getString("hash"));
+        c.setParentHash(rs.getString("parent_hash"));
+        c.setName(rs.getString("name"));
+        c.setRole(Clergy.Role.valueOf(rs.getString("role")));
+        Date startDate = rs.getDate("start_date");
+        c.setStartDate(startDate != null ? startDate.toLocalDate() : null);
+        Date papacyStartDate = rs.getDate("papacy_start_date");
+        c.setPapacyStartDate(papacyStartDate != null ? papacyStartDate.toLocalDate() : null);
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        c.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        int bump = rs.getInt("pda_bump");
+        c.setPdaBump(rs.wasNull() ? null : bump);
+        return c;
+    }
+}
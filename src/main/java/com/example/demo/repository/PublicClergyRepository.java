@@ -11,11 +11,7 @@ import java.util.List;
 @Repository
 public interface PublicClergyRepository extends JpaRepository<Clergy, String> {
 
-    @Query(value = """
-        SELECT * FROM clergy
-        WHERE role = 'POPE'
-        ORDER BY papacy_start_date ASC NULLS LAST
-        """, nativeQuery = true)
+    @Query(value = ClergyQueries.POPES, nativeQuery = true)
     List<Clergy> findPopesAndRoot();
 
     @Query(value = """
@@ -25,25 +21,7 @@ public interface PublicClergyRepository extends JpaRepository<Clergy, String> {
         """, nativeQuery = true)
     List<Clergy> searchByNameLimit10(@Param("searchTerm") String searchTerm);
 
-    @Query(value = """
-        WITH RECURSIVE lineage AS (
-            SELECT hash, parent_hash, name, role, start_date, papacy_start_date, created_at, 1 AS depth
-            FROM clergy
-            WHERE hash = :startHash
-
-            UNION ALL
-
-            SELECT c.hash, c.parent_hash, c.name, c.role, c.start_date, c.papacy_start_date, c.created_at, l.depth + 1
-            FROM clergy c
-            INNER JOIN lineage l ON l.parent_hash = c.hash
-            WHERE l.depth < 150
-              AND l.parent_hash IS NOT NULL
-              AND l.parent_hash NOT IN ('00x00x00', '00X00X00')
-        )
-        SELECT hash, parent_hash, name, role, start_date, papacy_start_date, created_at
-        FROM lineage
-        ORDER BY depth ASC
-        """, nativeQuery = true)
+    @Query(value = ClergyQueries.TRACE_TO_ROOT, nativeQuery = true)
     List<Clergy> traceLineageToRoot(@Param("startHash") String startHash);
 
     @Query(value = """
@@ -52,4 +30,10 @@ public interface PublicClergyRepository extends JpaRepository<Clergy, String> {
         LIMIT 1
         """, nativeQuery = true)
     List<Clergy> findByHash(@Param("hash") String hash);
+
+    @Query(value = "SELECT hash, parent_hash FROM clergy", nativeQuery = true)
+    List<Object[]> findAllEdges();
+
+    @Query(value = "SELECT hash, name FROM clergy", nativeQuery = true)
+    List<Object[]> findAllNames();
 }
\ No newline at end of file
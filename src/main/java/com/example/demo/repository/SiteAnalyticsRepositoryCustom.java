@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+import java.util.Map;
+
+public interface SiteAnalyticsRepositoryCustom {
+
+    // Um INSERT ... ON CONFLICT multi-linha por lote de hashes
+    void upsertViews(Map<String, Long> viewsByHash);
+}
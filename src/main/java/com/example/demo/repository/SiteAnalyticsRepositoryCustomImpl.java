@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class SiteAnalyticsRepositoryCustomImpl implements SiteAnalyticsRepositoryCustom {
+
+    // Mantém cada statement bem abaixo do limite de 65535 parâmetros do Postgres
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertViews(Map<String, Long> viewsByHash) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(viewsByHash.entrySet());
+        for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(from + ROWS_PER_STATEMENT, entries.size()));
+
+            StringBuilder sql = new StringBuilder(
+                "INSERT INTO site_analytics (entity_hash, views_count, last_viewed_at) VALUES ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append("(?, ?, NOW())");
+                args[i * 2] = chunk.get(i).getKey();
+                args[i * 2 + 1] = chunk.get(i).getValue();
+            }
+            sql.append("""
+                 ON CONFLICT (entity_hash)
+                DO UPDATE SET
+                    views_count = site_analytics.views_count + EXCLUDED.views_count,
+                    last_viewed_at = EXCLUDED.last_viewed_at
+                """);
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
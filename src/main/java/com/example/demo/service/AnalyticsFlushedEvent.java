@@ -0,0 +1,8 @@
+// AnalyticsFlushedEvent.java
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// Publicado depois que um flush de analytics foi gravado: views somadas ao total e por dia
+public record AnalyticsFlushedEvent(long views, Map<LocalDate, Long> dailyViews) {}
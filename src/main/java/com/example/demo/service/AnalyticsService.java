@@ -3,11 +3,25 @@ package com.example.demo.service;
 
 import com.example.demo.repository.DailyVisitRepository;
 import com.example.demo.repository.SiteAnalyticsRepository;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Write-behind: recordView só incrementa contadores em memória; o flush agendado
+// grava tudo com um upsert multi-linha por tabela, em vez de dois upserts por view.
+// A escrita roda no analyticsExecutor (fila limitada, ver AsyncConfig).
 @Service
 public class AnalyticsService {
 
@@ -17,14 +31,97 @@ public class AnalyticsService {
     @Autowired
     private DailyVisitRepository dailyVisitRepository;
 
-    @Async
-    @Transactional
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("analyticsExecutor")
+    private ThreadPoolTaskExecutor analyticsExecutor;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<String, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<LocalDate, LongAdder> pendingDailyViews = new ConcurrentHashMap<>();
+
+    private final Object flushLock = new Object();
+
     public void recordView(String entityHash) {
+        if (entityHash == null) return;
+        pendingViews.computeIfAbsent(entityHash, k -> new LongAdder()).increment();
+        pendingDailyViews.computeIfAbsent(LocalDate.now(), k -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.flush-interval-ms:10000}")
+    public void flush() {
+        Map<String, Long> views;
+        Map<LocalDate, Long> daily;
+        synchronized (flushLock) {
+            views = drainViews();
+            daily = drainDailyViews();
+        }
+        if (views.isEmpty() && daily.isEmpty()) return;
+
         try {
-            siteAnalyticsRepository.upsertView(entityHash);
-            dailyVisitRepository.incrementToday();
+            analyticsExecutor.execute(() -> write(views, daily));
+        } catch (RejectedExecutionException e) {
+            // Política COALESCE: a fila está cheia, as contagens entram no próximo flush
+            restore(views, daily);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        Map<String, Long> views;
+        Map<LocalDate, Long> daily;
+        synchronized (flushLock) {
+            views = drainViews();
+            daily = drainDailyViews();
+        }
+        if (!views.isEmpty() || !daily.isEmpty()) write(views, daily);
+    }
+
+    private void write(Map<String, Long> views, Map<LocalDate, Long> daily) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!views.isEmpty()) siteAnalyticsRepository.upsertViews(views);
+                daily.forEach(dailyVisitRepository::addViews);
+            });
+            long total = views.values().stream().mapToLong(Long::longValue).sum();
+            eventPublisher.publishEvent(new AnalyticsFlushedEvent(total, daily));
         } catch (Exception e) {
+            // Devolve as contagens para o próximo flush em vez de perdê-las
+            restore(views, daily);
             System.err.println("Analytics error: " + e.getMessage());
         }
     }
+
+    private void restore(Map<String, Long> views, Map<LocalDate, Long> daily) {
+        views.forEach((hash, n) -> pendingViews.computeIfAbsent(hash, k -> new LongAdder()).add(n));
+        daily.forEach((day, n) -> pendingDailyViews.computeIfAbsent(day, k -> new LongAdder()).add(n));
+    }
+
+    // As entradas ficam no mapa (o conjunto de hashes é limitado ao de clérigos);
+    // só o valor é zerado, então um incremento concorrente nunca cai num adder órfão.
+    private Map<String, Long> drainViews() {
+        Map<String, Long> drained = new HashMap<>();
+        pendingViews.forEach((hash, adder) -> {
+            long n = adder.sumThenReset();
+            if (n > 0) drained.put(hash, n);
+        });
+        return drained;
+    }
+
+    private Map<LocalDate, Long> drainDailyViews() {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, Long> drained = new HashMap<>();
+        pendingDailyViews.forEach((day, adder) -> {
+            long n = adder.sumThenReset();
+            if (day.isBefore(today) && pendingDailyViews.remove(day, adder)) {
+                n += adder.sumThenReset();
+            }
+            if (n > 0) drained.put(day, n);
+        });
+        return drained;
+    }
 }
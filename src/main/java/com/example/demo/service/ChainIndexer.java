@@ -0,0 +1,269 @@
+// ChainIndexer.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ChainIndexerStatusDTO;
+import com.example.demo.model.ChainIndexerCheckpoint;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ChainIndexerCheckpointRepository;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.util.ChainCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.p2p.solanaj.core.PublicKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Reconstrói clergy a partir das contas do programa. getProgramAccounts não pagina,
+// então ele só lista os endereços (dataSlice vazio, filtro pelo discriminator da conta
+// Clergy); os dados vêm em lotes de 100 por getMultipleAccounts e entram no banco em
+// batches JDBC. Em memória ficam só os endereços e um batch de linhas.
+// Incremental: contas cujo hash já está em clergy não são buscadas, e uma execução
+// interrompida retoma depois do último endereço gravado (chain_indexer_checkpoint).
+// O fechamento de descendentes pendente (closure_pending) é completado no fim de cada
+// execução e no startup, até dar certo.
+@Service
+public class ChainIndexer {
+
+    private static final int MAX_ACCOUNTS = 100;
+    private static final int CHECKPOINT_ID = 1;
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private ChainIndexerCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ClergyPdaResolver pdaResolver;
+
+    @Autowired
+    private ClergyDescendantsService descendantsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${solana.program.id}")
+    private String programIdString;
+
+    @Value("${solana.indexer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${solana.indexer.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ChainIndexerStatusDTO status = new ChainIndexerStatusDTO();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "chain-indexer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        if (runOnStartup) {
+            trigger();
+            return;
+        }
+        // Execução anterior caiu entre as inserções e o fechamento
+        if (!running.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            try {
+                checkpointRepository.findById(CHECKPOINT_ID)
+                        .filter(ChainIndexerCheckpoint::isClosurePending)
+                        .ifPresent(this::completeClosure);
+            } catch (Exception e) {
+                System.err.println("ChainIndexer: falha ao completar o fechamento pendente. " + e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    // false quando já existe uma execução em andamento
+    public boolean trigger() {
+        if (!running.compareAndSet(false, true)) return false;
+        ChainIndexerStatusDTO initial = new ChainIndexerStatusDTO();
+        initial.setRunning(true);
+        initial.setStartedAt(Instant.now());
+        status = copy(initial);
+        executor.execute(() -> {
+            try {
+                run(initial);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public ChainIndexerStatusDTO getStatus() {
+        return copy(status);
+    }
+
+    private void run(ChainIndexerStatusDTO progress) {
+        long start = System.nanoTime();
+        try {
+            ChainIndexerCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_ID).orElseGet(() -> {
+                ChainIndexerCheckpoint c = new ChainIndexerCheckpoint();
+                c.setId(CHECKPOINT_ID);
+                return c;
+            });
+            String resumeAfter = checkpoint.getLastKey();
+            if (resumeAfter == null) checkpoint.setStartedAt(LocalDateTime.now());
+            progress.setResumedAfter(resumeAfter);
+
+            List<PublicKey> keys = rpc.getProgramAccountKeys(
+                    new PublicKey(programIdString), ChainCodec.accountDiscriminator("Clergy"));
+            Set<String> known = knownAddresses();
+
+            // Ordem estável entre execuções: é o que torna o last_key do checkpoint retomável
+            List<String> pending = new ArrayList<>();
+            for (PublicKey key : keys) {
+                String address = key.toBase58();
+                if (known.contains(address)) continue;
+                if (resumeAfter != null && address.compareTo(resumeAfter) <= 0) continue;
+                pending.add(address);
+            }
+            Collections.sort(pending);
+            progress.setAccountsOnChain(keys.size());
+            progress.setAlreadyIndexed(keys.size() - pending.size());
+            publish(progress);
+
+            List<Clergy> rows = new ArrayList<>(batchSize);
+            for (int from = 0; from < pending.size(); from += MAX_ACCOUNTS) {
+                List<String> chunk = pending.subList(from, Math.min(from + MAX_ACCOUNTS, pending.size()));
+                List<byte[]> accounts = rpc.getMultipleAccounts(chunk.stream().map(PublicKey::new).toList());
+                for (int i = 0; i < chunk.size(); i++) {
+                    Clergy row = pdaResolver.decodeAccount(chunk.get(i), accounts.get(i));
+                    if (row == null) {
+                        progress.setInvalid(progress.getInvalid() + 1);
+                    } else {
+                        rows.add(row);
+                    }
+                }
+                progress.setFetched(progress.getFetched() + chunk.size());
+
+                boolean last = from + MAX_ACCOUNTS >= pending.size();
+                if (rows.size() >= batchSize || last) {
+                    progress.setInserted(progress.getInserted() + flush(rows, checkpoint, chunk.get(chunk.size() - 1)));
+                    rows.clear();
+                    publish(progress);
+                }
+            }
+
+            checkpoint.setLastKey(null);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            checkpoint.setAccountsSeen(keys.size());
+            checkpoint.setInserted(progress.getInserted());
+            checkpointRepository.save(checkpoint);
+
+            // A ordem das contas não é pai-antes-de-filho: completa o fechamento no fim,
+            // também o que ficou pendente de uma execução anterior
+            if (checkpoint.isClosurePending()) completeClosure(checkpoint);
+
+            System.out.println("ChainIndexer: " + keys.size() + " contas on-chain, "
+                    + progress.getFetched() + " buscadas, " + progress.getInserted() + " gravadas, "
+                    + progress.getInvalid() + " inválidas em " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+        } catch (Exception e) {
+            progress.setError(e.getMessage());
+            System.err.println("ChainIndexer: falha na indexação. " + e.getMessage());
+        } finally {
+            progress.setRunning(false);
+            progress.setFinishedAt(Instant.now());
+            publish(progress);
+        }
+    }
+
+    // Um batch por transação, junto com o avanço do checkpoint
+    private int flush(List<Clergy> rows, ChainIndexerCheckpoint checkpoint, String lastKey) {
+        Integer inserted = transactionTemplate.execute(tx -> {
+            int count = 0;
+            if (!rows.isEmpty()) {
+                int[] result = clergyRepository.batchInsert(rows);
+                for (int i = 0; i < rows.size(); i++) {
+                    if (result[i] == 0) continue;
+                    eventPublisher.publishEvent(new ClergyCreatedEvent(rows.get(i)));
+                    count++;
+                }
+            }
+            checkpoint.setLastKey(lastKey);
+            if (count > 0) checkpoint.setClosurePending(true);
+            checkpointRepository.save(checkpoint);
+            return count;
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    // A marca só sai depois do fechamento: se cair no meio, a próxima tentativa refaz
+    private void completeClosure(ChainIndexerCheckpoint checkpoint) {
+        descendantsService.completeClosure();
+        checkpoint.setClosurePending(false);
+        checkpointRepository.save(checkpoint);
+    }
+
+    private Set<String> knownAddresses() {
+        List<Object[]> rows = clergyRepository.findAllPdaBumps();
+        Set<String> known = new HashSet<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            try {
+                known.add(pdaResolver.resolve((String) row[0]).address().toBase58());
+            } catch (RuntimeException e) {
+                // hash inválido no banco: não tem conta correspondente
+            }
+        }
+        return known;
+    }
+
+    private void publish(ChainIndexerStatusDTO progress) {
+        status = copy(progress);
+    }
+
+    private static ChainIndexerStatusDTO copy(ChainIndexerStatusDTO s) {
+        ChainIndexerStatusDTO c = new ChainIndexerStatusDTO();
+        c.setRunning(s.isRunning());
+        c.setResumedAfter(s.getResumedAfter());
+        c.setAccountsOnChain(s.getAccountsOnChain());
+        c.setAlreadyIndexed(s.getAlreadyIndexed());
+        c.setFetched(s.getFetched());
+        c.setInserted(s.getInserted());
+        c.setInvalid(s.getInvalid());
+        c.setError(s.getError());
+        c.setStartedAt(s.getStartedAt());
+        c.setFinishedAt(s.getFinishedAt());
+        return c;
+    }
+}
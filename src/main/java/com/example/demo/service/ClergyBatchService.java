@@ -0,0 +1,358 @@
+// ClergyBatchService.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyBatchItemDTO;
+import com.example.demo.dto.ClergyBatchItemDTO.Status;
+import com.example.demo.dto.ClergyBatchJobDTO;
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.util.TransactionSize;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.p2p.solanaj.core.PublicKey;
+import org.p2p.solanaj.core.TransactionInstruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Registro em lote: ordena pais antes de filhos, empacota quantas instruções
+// create_clergy couberem em cada transação e grava tudo num batch JDBC no fim.
+// Pela API o lote vira um job (submit/getJob), como no registro unitário: pacotes
+// dependentes confirmam em sequência e um lote grande passa do timeout de uma requisição.
+@Service
+public class ClergyBatchService {
+
+    @Autowired
+    private ClergyService clergyService;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private SignatureConfirmationTracker confirmationTracker;
+
+    @Value("${clergy.batch.max-items:1000}")
+    private int maxItems;
+
+    @Value("${clergy.batch.job-ttl-minutes:60}")
+    private long jobTtlMinutes;
+
+    private final Map<String, ClergyBatchJobDTO> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "clergy-batch-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    // Valida e dispara o lote; o resultado por item fica no job ao terminar
+    public ClergyBatchJobDTO submit(List<ClergyDTO> dtos) {
+        pruneFinishedJobs();
+
+        CompletableFuture<List<ClergyBatchItemDTO>> batch = registerBatch(dtos);
+
+        ClergyBatchJobDTO job = new ClergyBatchJobDTO();
+        job.setId(UUID.randomUUID().toString());
+        job.setStatus(ClergyBatchJobDTO.Status.RUNNING);
+        job.setTotal(dtos.size());
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        jobs.put(job.getId(), job);
+
+        // O lote pode já ter terminado aqui (tudo pulado): o job entra no mapa antes
+        batch.whenComplete((items, error) -> update(job.getId(), j -> {
+            if (error != null) {
+                j.setStatus(ClergyBatchJobDTO.Status.FAILED);
+                j.setError(rootMessage(error));
+                return;
+            }
+            j.setStatus(ClergyBatchJobDTO.Status.DONE);
+            j.setItems(List.copyOf(items));
+            for (ClergyBatchItemDTO item : items) {
+                switch (item.getStatus()) {
+                    case CONFIRMED -> j.setConfirmed(j.getConfirmed() + 1);
+                    case SKIPPED -> j.setSkipped(j.getSkipped() + 1);
+                    default -> j.setFailed(j.getFailed() + 1);
+                }
+            }
+        }));
+        return jobs.get(job.getId());
+    }
+
+    public ClergyBatchJobDTO getJob(String id) {
+        return jobs.get(id);
+    }
+
+    public CompletableFuture<List<ClergyBatchItemDTO>> registerBatch(List<ClergyDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new RuntimeException("Lote vazio.");
+        }
+        if (dtos.size() > maxItems) {
+            throw new RuntimeException("Lote excede o máximo de " + maxItems + " itens.");
+        }
+
+        List<ClergyBatchItemDTO> results = new ArrayList<>(dtos.size());
+        Map<String, Integer> byHash = new HashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ClergyDTO dto = dtos.get(i);
+            String hash = clergyService.generateDeterministicHash(dto);
+            dto.setHash(hash);
+
+            ClergyBatchItemDTO item = new ClergyBatchItemDTO();
+            item.setIndex(i);
+            item.setHash(hash);
+            item.setName(dto.getName());
+            results.add(item);
+
+            if (byHash.putIfAbsent(hash, i) != null) {
+                skip(item, "Duplicado dentro do lote.");
+            }
+        }
+
+        Set<String> lookup = new HashSet<>(byHash.keySet());
+        dtos.forEach(d -> { if (!isSentinel(d.getParentHash())) lookup.add(d.getParentHash()); });
+        Set<String> persisted = clergyRepository.findAllById(lookup).stream()
+                .map(Clergy::getHash)
+                .collect(Collectors.toSet());
+
+        for (int i : byHash.values()) {
+            if (persisted.contains(dtos.get(i).getHash())) skip(results.get(i), "Hash já registrado. Este clérigo já existe.");
+        }
+
+        List<Integer> ordered = orderParentsFirst(dtos, results, byHash, persisted);
+        List<List<Integer>> packs = pack(dtos, results, byHash, ordered);
+        return send(dtos, results, byHash, packs);
+    }
+
+    // Ordena por profundidade dentro do lote; quem depende de pai inexistente falha aqui
+    private List<Integer> orderParentsFirst(List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results,
+                                            Map<String, Integer> byHash, Set<String> persisted) {
+        int[] depth = new int[dtos.size()];
+        List<Integer> ordered = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (results.get(i).getStatus() != null) continue;
+            depth[i] = depthOf(i, dtos, results, byHash, persisted, 0);
+            if (depth[i] >= 0) ordered.add(i);
+        }
+        ordered.sort(Comparator.comparingInt(i -> depth[i]));
+        return ordered;
+    }
+
+    private int depthOf(int i, List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results,
+                        Map<String, Integer> byHash, Set<String> persisted, int guard) {
+        String parentHash = dtos.get(i).getParentHash();
+        if (isSentinel(parentHash) || persisted.contains(parentHash)) return 0;
+
+        Integer parent = byHash.get(parentHash);
+        if (parent == null || guard > dtos.size()) {
+            fail(results.get(i), "Pai não encontrado: " + parentHash);
+            return -1;
+        }
+        if (results.get(parent).getStatus() == Status.FAILED) {
+            fail(results.get(i), "Pai falhou no lote: " + parentHash);
+            return -1;
+        }
+        if (results.get(parent).getStatus() == Status.SKIPPED) return 0;
+
+        int parentDepth = depthOf(parent, dtos, results, byHash, persisted, guard + 1);
+        if (parentDepth < 0) {
+            fail(results.get(i), "Pai falhou no lote: " + parentHash);
+            return -1;
+        }
+        return parentDepth + 1;
+    }
+
+    // Guloso, na ordem topológica: fecha a transação quando a próxima instrução estouraria 1232 bytes
+    private List<List<Integer>> pack(List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results,
+                                     Map<String, Integer> byHash, List<Integer> ordered) {
+        PublicKey feePayer = clergyService.getAdminPublicKey();
+        List<List<Integer>> packs = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        List<TransactionInstruction> currentIxs = new ArrayList<>();
+
+        for (int i : ordered) {
+            Integer parent = byHash.get(dtos.get(i).getParentHash());
+            if (parent != null && results.get(parent).getStatus() == Status.FAILED) {
+                fail(results.get(i), "Pai falhou no lote: " + dtos.get(i).getParentHash());
+                continue;
+            }
+
+            TransactionInstruction ix;
+            try {
+                ix = clergyService.buildCreateClergyInstruction(dtos.get(i));
+            } catch (Exception e) {
+                fail(results.get(i), "Falha ao montar instrução: " + e.getMessage());
+                continue;
+            }
+
+            currentIxs.add(ix);
+            if (TransactionSize.of(feePayer, currentIxs) <= TransactionSize.PACKET_DATA_SIZE) {
+                current.add(i);
+                continue;
+            }
+            currentIxs.remove(currentIxs.size() - 1);
+
+            if (!current.isEmpty()) {
+                packs.add(current);
+                current = new ArrayList<>();
+                currentIxs = new ArrayList<>();
+            }
+            if (TransactionSize.of(feePayer, List.of(ix)) > TransactionSize.PACKET_DATA_SIZE) {
+                fail(results.get(i), "Instrução excede o tamanho máximo de uma transação.");
+                continue;
+            }
+            current.add(i);
+            currentIxs.add(ix);
+        }
+        if (!current.isEmpty()) packs.add(current);
+        return packs;
+    }
+
+    // Transações independentes seguem em paralelo; uma transação com filhos de outra
+    // só é enviada depois que a do pai confirmar.
+    private CompletableFuture<List<ClergyBatchItemDTO>> send(List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results,
+                                                             Map<String, Integer> byHash, List<List<Integer>> packs) {
+        int[] packOf = new int[dtos.size()];
+        for (int k = 0; k < packs.size(); k++) {
+            for (int i : packs.get(k)) packOf[i] = k;
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(packs.size());
+        for (int k = 0; k < packs.size(); k++) {
+            List<Integer> items = packs.get(k);
+            List<CompletableFuture<String>> deps = new ArrayList<>();
+            for (int i : items) {
+                Integer parent = byHash.get(dtos.get(i).getParentHash());
+                if (parent != null && results.get(parent).getStatus() == null && packOf[parent] != k) {
+                    deps.add(futures.get(packOf[parent]));
+                }
+            }
+
+            futures.add(CompletableFuture.allOf(deps.toArray(new CompletableFuture<?>[0]))
+                    .handle((v, depError) -> depError)
+                    .thenComposeAsync(depError -> depError == null
+                            ? sendPack(dtos, results, items)
+                            : CompletableFuture.<String>failedFuture(
+                                    new RuntimeException("Transação do pai falhou: " + rootMessage(depError))),
+                            executor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .handle((v, ignored) -> finish(dtos, results, packs, futures));
+    }
+
+    private CompletableFuture<String> sendPack(List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results, List<Integer> items) {
+        try {
+            String signature = clergyService.sendClergyInstructions(items.stream().map(dtos::get).toList());
+            if (signature == null || signature.isEmpty()) {
+                throw new RuntimeException("Falha ao assinar e enviar transação na Solana.");
+            }
+            items.forEach(i -> results.get(i).setSignature(signature));
+            return confirmationTracker.track(signature);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<ClergyBatchItemDTO> finish(List<ClergyDTO> dtos, List<ClergyBatchItemDTO> results,
+                                            List<List<Integer>> packs, List<CompletableFuture<String>> futures) {
+        List<Integer> confirmed = new ArrayList<>();
+        for (int k = 0; k < packs.size(); k++) {
+            CompletableFuture<String> f = futures.get(k);
+            if (!f.isCompletedExceptionally()) {
+                confirmed.addAll(packs.get(k));
+                continue;
+            }
+            String error = f.handle((sig, e) -> rootMessage(e)).join();
+            packs.get(k).forEach(i -> fail(results.get(i), error));
+        }
+
+        if (!confirmed.isEmpty()) {
+            try {
+                clergyService.saveConfirmedBatch(confirmed.stream().map(dtos::get).toList());
+                confirmed.forEach(i -> results.get(i).setStatus(Status.CONFIRMED));
+            } catch (Exception e) {
+                confirmed.forEach(i -> fail(results.get(i),
+                        "Confirmado on-chain, mas falhou ao gravar no banco: " + e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    // Cada transição publica uma cópia nova: o controller nunca lê um job pela metade.
+    private void update(String jobId, Consumer<ClergyBatchJobDTO> change) {
+        jobs.computeIfPresent(jobId, (id, current) -> {
+            ClergyBatchJobDTO next = new ClergyBatchJobDTO();
+            next.setId(current.getId());
+            next.setStatus(current.getStatus());
+            next.setTotal(current.getTotal());
+            next.setConfirmed(current.getConfirmed());
+            next.setSkipped(current.getSkipped());
+            next.setFailed(current.getFailed());
+            next.setItems(current.getItems());
+            next.setError(current.getError());
+            next.setCreatedAt(current.getCreatedAt());
+            change.accept(next);
+            next.setUpdatedAt(Instant.now());
+            return next;
+        });
+    }
+
+    private void pruneFinishedJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(jobTtlMinutes));
+        jobs.values().removeIf(j -> j.getStatus() != ClergyBatchJobDTO.Status.RUNNING
+                && j.getUpdatedAt().isBefore(cutoff));
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage();
+    }
+
+    private static void skip(ClergyBatchItemDTO item, String reason) {
+        item.setStatus(Status.SKIPPED);
+        item.setError(reason);
+    }
+
+    private static void fail(ClergyBatchItemDTO item, String reason) {
+        item.setStatus(Status.FAILED);
+        item.setError(reason);
+    }
+
+    private static boolean isSentinel(String parentHash) {
+        return parentHash == null
+                || parentHash.isBlank()
+                || parentHash.equalsIgnoreCase("00x00x00");
+    }
+}
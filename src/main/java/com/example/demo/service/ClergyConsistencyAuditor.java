@@ -0,0 +1,353 @@
+// ClergyConsistencyAuditor.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ConsistencyAuditDTO;
+import com.example.demo.dto.ConsistencyAuditDTO.Discrepancy;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.util.ChainCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.p2p.solanaj.core.PublicKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Confere clergy contra as contas do programa com uma árvore de Merkle por lado.
+// Cada linha vira uma folha (SHA-256 do layout da conta Clergy com os dados dela),
+// as folhas são agrupadas em buckets pelo prefixo do hash e ordenadas por hash, e
+// as raízes dos buckets formam a raiz de cada lado. Raízes iguais: nada a fazer;
+// senão só os buckets divergentes são abertos, folha a folha.
+// As contas vêm em lotes de 100 (getMultipleAccounts), com limite de chamadas por
+// segundo. Como o programa não altera nem fecha contas, a folha de cada endereço fica
+// em cache: a partir da segunda auditoria só contas novas são lidas da chain.
+@Service
+public class ClergyConsistencyAuditor {
+
+    private static final int MAX_ACCOUNTS = 100;
+    private static final byte LEAF = 0;
+    private static final byte NODE = 1;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    @Autowired
+    private ClergyPdaResolver pdaResolver;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${solana.program.id}")
+    private String programIdString;
+
+    // 2^bits buckets pelo prefixo do hash (8 -> 256)
+    @Value("${clergy.audit.bucket-bits:8}")
+    private int bucketBits;
+
+    @Value("${clergy.audit.max-rpc-per-second:5}")
+    private int maxRpcPerSecond;
+
+    @Value("${clergy.audit.max-reported:100}")
+    private int maxReported;
+
+    @Value("${clergy.export.fetch-size:500}")
+    private int fetchSize;
+
+    // Endereço da conta -> (hash, folha)
+    private final Map<String, ChainLeaf> chainLeaves = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger lastDiscrepancies = new AtomicInteger();
+    private volatile ConsistencyAuditDTO last = new ConsistencyAuditDTO();
+    private ExecutorService executor;
+    private Counter fetchedCounter;
+
+    private record ChainLeaf(String hash, byte[] leaf) {}
+
+    @PostConstruct
+    void start() {
+        bucketBits = Math.max(0, Math.min(bucketBits, 16));
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "clergy-audit");
+            t.setDaemon(true);
+            return t;
+        });
+        Gauge.builder("clergy.audit.discrepancies", lastDiscrepancies, AtomicInteger::get)
+                .description("Divergências encontradas na última auditoria")
+                .register(meterRegistry);
+        fetchedCounter = Counter.builder("clergy.audit.accounts.fetched")
+                .description("Contas lidas da chain pela auditoria")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // Desligado por padrão ("-"); ex.: clergy.audit.cron=0 0 4 * * *
+    @Scheduled(cron = "${clergy.audit.cron:-}")
+    public void scheduled() {
+        trigger();
+    }
+
+    // false quando já existe uma auditoria em andamento
+    public boolean trigger() {
+        if (!running.compareAndSet(false, true)) return false;
+        ConsistencyAuditDTO pending = new ConsistencyAuditDTO();
+        pending.setRunning(true);
+        pending.setStartedAt(Instant.now());
+        last = pending;
+        executor.execute(() -> {
+            try {
+                last = audit(pending.getStartedAt());
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public ConsistencyAuditDTO getLast() {
+        return last;
+    }
+
+    private ConsistencyAuditDTO audit(Instant startedAt) {
+        long start = System.nanoTime();
+        ConsistencyAuditDTO result = new ConsistencyAuditDTO();
+        result.setStartedAt(startedAt);
+        List<Discrepancy> found = new ArrayList<>();
+        String outcome = "error";
+        try {
+            int buckets = 1 << bucketBits;
+            result.setBuckets(buckets);
+
+            List<TreeMap<String, byte[]>> database = emptyBuckets(buckets);
+            transactionTemplate.executeWithoutResult(status -> clergyRepository.streamAllByHash(fetchSize, row -> {
+                result.setDatabaseRows(result.getDatabaseRows() + 1);
+                try {
+                    int bump = row.getPdaBump() != null ? row.getPdaBump() : pdaResolver.resolve(row.getHash()).bump();
+                    database.get(bucketOf(row.getHash())).put(row.getHash(), leaf(row, bump));
+                } catch (RuntimeException e) {
+                    // hash fora do formato: não existe conta para ele
+                    found.add(discrepancy(Discrepancy.Kind.MISSING_ON_CHAIN, row.getHash(), null));
+                }
+            }));
+
+            List<TreeMap<String, byte[]>> chain = loadChain(buckets, result, found);
+
+            byte[][] databaseRoots = new byte[buckets][];
+            byte[][] chainRoots = new byte[buckets][];
+            for (int b = 0; b < buckets; b++) {
+                databaseRoots[b] = merkleRoot(new ArrayList<>(database.get(b).values()));
+                chainRoots[b] = merkleRoot(new ArrayList<>(chain.get(b).values()));
+            }
+            byte[] databaseRoot = merkleRoot(Arrays.asList(databaseRoots));
+            byte[] chainRoot = merkleRoot(Arrays.asList(chainRoots));
+            result.setDatabaseRoot(ChainCodec.toHex0x(databaseRoot));
+            result.setChainRoot(ChainCodec.toHex0x(chainRoot));
+
+            if (!Arrays.equals(databaseRoot, chainRoot)) {
+                for (int b = 0; b < buckets; b++) {
+                    if (Arrays.equals(databaseRoots[b], chainRoots[b])) continue;
+                    result.setMismatchedBuckets(result.getMismatchedBuckets() + 1);
+                    compare(database.get(b), chain.get(b), found);
+                }
+            }
+
+            result.setConsistent(found.isEmpty());
+            outcome = found.isEmpty() ? "consistent" : "inconsistent";
+        } catch (Exception e) {
+            result.setError(e.getMessage());
+            System.err.println("ClergyConsistencyAuditor: falha na auditoria. " + e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("clergy.audit.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            lastDiscrepancies.set(found.size());
+
+            result.setTotalDiscrepancies(found.size());
+            result.setDiscrepancies(new ArrayList<>(found.subList(0, Math.min(found.size(), maxReported))));
+            result.setFinishedAt(Instant.now());
+            result.setDurationMs(elapsed / 1_000_000);
+        }
+        System.out.println("ClergyConsistencyAuditor: " + result.getDatabaseRows() + " linhas, "
+                + result.getChainAccounts() + " contas (" + result.getFetchedAccounts() + " lidas), "
+                + result.getMismatchedBuckets() + " buckets divergentes, "
+                + result.getTotalDiscrepancies() + " divergências em " + result.getDurationMs() + " ms.");
+        return result;
+    }
+
+    private List<TreeMap<String, byte[]>> loadChain(int buckets, ConsistencyAuditDTO result, List<Discrepancy> found)
+            throws Exception {
+        List<PublicKey> keys = rpc.getProgramAccountKeys(
+                new PublicKey(programIdString), ChainCodec.accountDiscriminator("Clergy"));
+        result.setRpcCalls(1);
+        result.setChainAccounts(keys.size());
+
+        Set<String> addresses = new HashSet<>(keys.size() * 2);
+        List<String> missing = new ArrayList<>();
+        for (PublicKey key : keys) {
+            String address = key.toBase58();
+            addresses.add(address);
+            if (!chainLeaves.containsKey(address)) missing.add(address);
+        }
+
+        long minIntervalNanos = maxRpcPerSecond > 0 ? 1_000_000_000L / maxRpcPerSecond : 0;
+        long lastCall = 0;
+        for (int from = 0; from < missing.size(); from += MAX_ACCOUNTS) {
+            long wait = lastCall + minIntervalNanos - System.nanoTime();
+            if (lastCall != 0 && wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+            lastCall = System.nanoTime();
+
+            List<String> chunk = missing.subList(from, Math.min(from + MAX_ACCOUNTS, missing.size()));
+            List<byte[]> accounts = rpc.getMultipleAccounts(chunk.stream().map(PublicKey::new).toList());
+            result.setRpcCalls(result.getRpcCalls() + 1);
+            result.setFetchedAccounts(result.getFetchedAccounts() + chunk.size());
+            fetchedCounter.increment(chunk.size());
+
+            for (int i = 0; i < chunk.size(); i++) {
+                ChainLeaf leaf = chainLeaf(chunk.get(i), accounts.get(i));
+                if (leaf != null) chainLeaves.put(chunk.get(i), leaf);
+            }
+        }
+        // Endereços que não voltaram mais na listagem não ocupam o cache
+        chainLeaves.keySet().retainAll(addresses);
+
+        List<TreeMap<String, byte[]>> chain = emptyBuckets(buckets);
+        for (String address : addresses) {
+            ChainLeaf leaf = chainLeaves.get(address);
+            if (leaf == null) {
+                found.add(discrepancy(Discrepancy.Kind.INVALID_ACCOUNT, null, address));
+                continue;
+            }
+            chain.get(bucketOf(leaf.hash())).put(leaf.hash(), leaf.leaf());
+        }
+        return chain;
+    }
+
+    // null quando a conta não decodifica ou não é a PDA do próprio hash
+    private ChainLeaf chainLeaf(String address, byte[] data) {
+        Clergy clergy = pdaResolver.decodeAccount(address, data);
+        if (clergy == null) return null;
+        return new ChainLeaf(clergy.getHash(), leaf(clergy, clergy.getPdaBump()));
+    }
+
+    // Merge das duas listas ordenadas de um bucket divergente
+    private void compare(TreeMap<String, byte[]> database, TreeMap<String, byte[]> chain, List<Discrepancy> found) {
+        Iterator<Map.Entry<String, byte[]>> db = database.entrySet().iterator();
+        Iterator<Map.Entry<String, byte[]>> ch = chain.entrySet().iterator();
+        Map.Entry<String, byte[]> d = db.hasNext() ? db.next() : null;
+        Map.Entry<String, byte[]> c = ch.hasNext() ? ch.next() : null;
+        while (d != null || c != null) {
+            int cmp = d == null ? 1 : c == null ? -1 : d.getKey().compareTo(c.getKey());
+            if (cmp < 0) {
+                found.add(discrepancy(Discrepancy.Kind.MISSING_ON_CHAIN, d.getKey(), address(d.getKey())));
+                d = db.hasNext() ? db.next() : null;
+            } else if (cmp > 0) {
+                found.add(discrepancy(Discrepancy.Kind.MISSING_IN_DATABASE, c.getKey(), address(c.getKey())));
+                c = ch.hasNext() ? ch.next() : null;
+            } else {
+                if (!Arrays.equals(d.getValue(), c.getValue())) {
+                    found.add(discrepancy(Discrepancy.Kind.MISMATCH, d.getKey(), address(d.getKey())));
+                }
+                d = db.hasNext() ? db.next() : null;
+                c = ch.hasNext() ? ch.next() : null;
+            }
+        }
+    }
+
+    // Folha = SHA-256(0x00 || dados que a conta Clergy teria com esta linha)
+    private static byte[] leaf(Clergy clergy, int bump) {
+        byte[] account = ChainCodec.clergyAccountData(
+                clergy.getHash(),
+                clergy.getParentHash() != null ? clergy.getParentHash() : "",
+                clergy.getName(),
+                clergy.getRole().ordinal(),
+                clergy.getStartDate().toEpochDay(),
+                clergy.getPapacyStartDate() != null ? clergy.getPapacyStartDate().toEpochDay() : null,
+                bump);
+        byte[] input = new byte[account.length + 1];
+        input[0] = LEAF;
+        System.arraycopy(account, 0, input, 1, account.length);
+        return ChainCodec.sha256(input);
+    }
+
+    // Nós internos = SHA-256(0x01 || esquerda || direita); num nível ímpar o último sobe sozinho
+    static byte[] merkleRoot(List<byte[]> nodes) {
+        if (nodes.isEmpty()) return ChainCodec.sha256(new byte[0]);
+        List<byte[]> level = nodes;
+        byte[] input = new byte[1 + 2 * ChainCodec.HASH_LENGTH];
+        input[0] = NODE;
+        while (level.size() > 1) {
+            List<byte[]> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i + 1 < level.size(); i += 2) {
+                System.arraycopy(level.get(i), 0, input, 1, ChainCodec.HASH_LENGTH);
+                System.arraycopy(level.get(i + 1), 0, input, 1 + ChainCodec.HASH_LENGTH, ChainCodec.HASH_LENGTH);
+                next.add(ChainCodec.sha256(input));
+            }
+            if (level.size() % 2 == 1) next.add(level.get(level.size() - 1));
+            level = next;
+        }
+        return level.get(0);
+    }
+
+    private int bucketOf(String hash) {
+        byte[] bytes = ChainCodec.hashToSeedBytes(hash);
+        int prefix = (bytes[0] & 0xff) << 8 | (bytes[1] & 0xff);
+        return prefix >>> (16 - bucketBits);
+    }
+
+    private String address(String hash) {
+        try {
+            return pdaResolver.resolve(hash).address().toBase58();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static List<TreeMap<String, byte[]>> emptyBuckets(int buckets) {
+        List<TreeMap<String, byte[]>> list = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) list.add(new TreeMap<>());
+        return list;
+    }
+
+    private static Discrepancy discrepancy(Discrepancy.Kind kind, String hash, String address) {
+        Discrepancy d = new Discrepancy();
+        d.setKind(kind);
+        d.setHash(hash);
+        d.setAddress(address);
+        return d;
+    }
+}
@@ -0,0 +1,8 @@
+// ClergyCreatedEvent.java
+package com.example.demo.service;
+
+import com.example.demo.model.Clergy;
+
+// Publicado pelo ClergyService depois de persistir um novo nó.
+// Os índices em memória escutam com @TransactionalEventListener (AFTER_COMMIT).
+public record ClergyCreatedEvent(Clergy clergy) {}
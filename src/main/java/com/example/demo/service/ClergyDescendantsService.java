@@ -0,0 +1,118 @@
+// ClergyDescendantsService.java
+package com.example.demo.service;
+
+import com.example.demo.dto.DescendantsPageDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyClosureRepository;
+import com.example.demo.repository.ClergyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Descendentes via tabela de fechamento (clergy_closure). A tabela é mantida na
+// mesma transação que grava o clérigo, então nunca fica atrás do clergy.
+@Service
+public class ClergyDescendantsService {
+
+    // Mesmo limite de profundidade da CTE de trace
+    public static final int MAX_DEPTH = 150;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private ClergyClosureRepository closureRepository;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private ClergyNodeCache nodeCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // BEFORE_COMMIT: roda dentro da transação do save; se falhar, o clérigo também volta
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onClergyCreated(ClergyCreatedEvent event) {
+        Clergy clergy = event.clergy();
+        String parentHash = isSentinel(clergy.getParentHash()) ? "" : clergy.getParentHash();
+        closureRepository.insertNode(clergy.getHash(), parentHash);
+    }
+
+    // Bases anteriores à tabela (ou com linhas faltando) são completadas uma vez no startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long nodes = closureRepository.countNodes();
+            long clergy = clergyRepository.count();
+            if (nodes >= clergy) return;
+
+            Integer inserted = transactionTemplate.execute(status -> closureRepository.backfill());
+            System.out.println("ClergyDescendantsService: " + inserted + " linhas de fechamento criadas.");
+        } catch (Exception e) {
+            System.err.println("ClergyDescendantsService: falha no backfill. " + e.getMessage());
+        }
+    }
+
+    // Linhas gravadas antes do pai (ChainIndexer) ficam só com o próprio nó: completa tudo
+    public void completeClosure() {
+        Integer inserted = transactionTemplate.execute(status -> closureRepository.backfill());
+        System.out.println("ClergyDescendantsService: " + inserted + " linhas de fechamento completadas.");
+    }
+
+    // null quando o hash não existe
+    public DescendantsPageDTO getDescendants(String hash, int maxDepth, int page, int size) {
+        if (nodeCache.get(hash) == null) return null;
+
+        int depth = clamp(maxDepth, 1, MAX_DEPTH);
+        int pageSize = clamp(size, 1, MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        List<Object[]> rows = closureRepository.findDescendants(
+                hash, depth, pageSize, (long) pageNumber * pageSize);
+        List<String> hashes = rows.stream().map(r -> (String) r[0]).toList();
+        Map<String, Clergy> byHash = nodeCache.getAll(hashes);
+
+        List<DescendantsPageDTO.Item> items = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Clergy clergy = byHash.get((String) row[0]);
+            if (clergy == null) continue;
+            DescendantsPageDTO.Item item = new DescendantsPageDTO.Item();
+            item.setDepth(((Number) row[1]).intValue());
+            item.setClergy(clergy);
+            items.add(item);
+        }
+
+        DescendantsPageDTO dto = new DescendantsPageDTO();
+        dto.setHash(hash);
+        dto.setMaxDepth(depth);
+        dto.setPage(pageNumber);
+        dto.setSize(pageSize);
+        dto.setTotal(closureRepository.countDescendants(hash, depth));
+        dto.setItems(items);
+        return dto;
+    }
+
+    // null quando o hash não existe
+    public Long countDescendants(String hash, int maxDepth) {
+        if (nodeCache.get(hash) == null) return null;
+        return closureRepository.countDescendants(hash, clamp(maxDepth, 1, MAX_DEPTH));
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static boolean isSentinel(String parentHash) {
+        return parentHash == null
+                || parentHash.isBlank()
+                || parentHash.equalsIgnoreCase("00x00x00");
+    }
+}
@@ -0,0 +1,227 @@
+// ClergyExportService.java
+package com.example.demo.service;
+
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+// Exporta a tabela clergy inteira numa passada só: cursor JDBC -> linha -> stream de saída.
+// Nada é acumulado; a memória fica constante e a conexão é usada uma única vez.
+// O endpoint público não escreve direto na resposta: a passada vai para um arquivo de
+// snapshot (normal + gzip) e os downloads servem o arquivo. A conexão do pool fica presa
+// só o tempo de ler o banco, nunca o de um cliente lento, e uma geração por vez.
+@Service
+public class ClergyExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    public record Snapshot(Path plain, Path gzip, long generation, Instant builtAt) {}
+
+    private static final String CSV_HEADER = "hash,parent_hash,name,role,start_date,papacy_start_date,created_at\n";
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${clergy.export.fetch-size:500}")
+    private int fetchSize;
+
+    // Snapshot desatualizado (houve inserção) ainda vale por este tempo: evita refazer a
+    // exportação a cada download enquanto um lote está sendo gravado
+    @Value("${clergy.export.min-rebuild-seconds:60}")
+    private long minRebuildSeconds;
+
+    // Vazio: diretório temporário próprio, apagado no shutdown
+    @Value("${clergy.export.dir:}")
+    private String dirProperty;
+
+    private Path dir;
+    private final Map<Format, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // Snapshot anterior, apagado só na geração seguinte: quem acabou de recebê-lo de
+    // snapshot() ainda consegue abrir o arquivo
+    private final Map<Format, Snapshot> retired = new ConcurrentHashMap<>();
+    // Sobe a cada clérigo criado; o snapshot guarda a geração em que foi lido
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void start() throws IOException {
+        dir = dirProperty == null || dirProperty.isBlank()
+                ? Files.createTempDirectory("clergy-export")
+                : Files.createDirectories(Path.of(dirProperty));
+    }
+
+    @PreDestroy
+    void stop() {
+        snapshots.values().forEach(ClergyExportService::delete);
+        retired.values().forEach(ClergyExportService::delete);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClergyCreated(ClergyCreatedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    // Snapshot atual do formato, gerado de novo quando houve inserção desde a última
+    // passada (respeitando min-rebuild-seconds). Quem chega durante a geração espera por ela.
+    public Snapshot snapshot(Format format) throws IOException {
+        Snapshot current = snapshots.get(format);
+        if (fresh(current)) return current;
+        synchronized (this) {
+            current = snapshots.get(format);
+            if (fresh(current)) return current;
+
+            long seen = generation.get();
+            Path plain = Files.createTempFile(dir, "clergy-", "." + format.name().toLowerCase());
+            Path gzip = Files.createTempFile(dir, "clergy-", "." + format.name().toLowerCase() + ".gz");
+            try (OutputStream plainOut = new BufferedOutputStream(Files.newOutputStream(plain));
+                 GZIPOutputStream gzipOut = new GZIPOutputStream(Files.newOutputStream(gzip), 8192)) {
+                export(format, new Tee(plainOut, gzipOut));
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(plain);
+                Files.deleteIfExists(gzip);
+                throw e;
+            }
+
+            Snapshot next = new Snapshot(plain, gzip, seen, Instant.now());
+            snapshots.put(format, next);
+            if (current != null) {
+                Snapshot old = retired.put(format, current);
+                if (old != null) delete(old);
+            }
+            return next;
+        }
+    }
+
+    private boolean fresh(Snapshot s) {
+        if (s == null || !Files.exists(s.plain()) || !Files.exists(s.gzip())) return false;
+        return s.generation() == generation.get()
+                || s.builtAt().plusSeconds(minRebuildSeconds).isAfter(Instant.now());
+    }
+
+    private static void delete(Snapshot s) {
+        try {
+            Files.deleteIfExists(s.plain());
+            Files.deleteIfExists(s.gzip());
+        } catch (IOException e) {
+            System.err.println("ClergyExportService: não apagou o snapshot antigo. " + e.getMessage());
+        }
+    }
+
+    public void export(Format format, OutputStream out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        try {
+            if (format == Format.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(CSV_HEADER);
+                readOnly.executeWithoutResult(status ->
+                        clergyRepository.streamAll(fetchSize, c -> writeCsv(writer, c)));
+                writer.flush();
+            } else {
+                SequenceWriter writer = objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .withRootValueSeparator("\n")
+                        .writeValues(out);
+                readOnly.executeWithoutResult(status ->
+                        clergyRepository.streamAll(fetchSize, c -> writeJson(writer, c)));
+                writer.close();
+                out.write('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Uma passada no banco alimenta o arquivo normal e o gzip
+    private static final class Tee extends OutputStream {
+        private final OutputStream a;
+        private final OutputStream b;
+
+        Tee(OutputStream a, OutputStream b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            a.write(value);
+            b.write(value);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+            a.write(bytes, off, len);
+            b.write(bytes, off, len);
+        }
+    }
+
+    private static void writeJson(SequenceWriter writer, Clergy c) {
+        try {
+            writer.write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsv(Writer writer, Clergy c) {
+        try {
+            writer.write(csv(c.getHash()));
+            writer.write(',');
+            writer.write(csv(c.getParentHash()));
+            writer.write(',');
+            writer.write(csv(c.getName()));
+            writer.write(',');
+            writer.write(csv(c.getRole() != null ? c.getRole().name() : null));
+            writer.write(',');
+            writer.write(csv(c.getStartDate() != null ? c.getStartDate().toString() : null));
+            writer.write(',');
+            writer.write(csv(c.getPapacyStartDate() != null ? c.getPapacyStartDate().toString() : null));
+            writer.write(',');
+            writer.write(csv(c.getCreatedAt() != null ? c.getCreatedAt().toString() : null));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RFC 4180: aspas só quando o valor tem vírgula, aspas ou quebra de linha
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,485 @@
+// ClergyImportService.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyBatchItemDTO;
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.dto.ClergyImportReportDTO;
+import com.example.demo.dto.ClergyImportRowDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Importação em massa de linhagens (CSV ou JSON/NDJSON, o mesmo formato da exportação).
+// O arquivo é lido em streaming e os registros validados; pais são resolvidos por id
+// local, por hash de outro registro do arquivo ou por hash já gravado no banco. Depois
+// os registros são separados em camadas por profundidade, todos os hashes são
+// calculados de uma vez e cada camada é enviada em lotes paralelos (ClergyBatchService),
+// com limite de itens por segundo. A próxima camada só sai quando a anterior termina.
+// Retomável: cada hash confirmado (ou que já existia) vai para o arquivo de checkpoint.
+@Service
+public class ClergyImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 50;
+    private static final int LOOKUP_CHUNK = 1000;
+
+    // Estados de profundidade durante a separação em camadas
+    private static final int UNKNOWN = -2;
+    private static final int VISITING = -3;
+    private static final int FAILED = -4;
+
+    @Autowired
+    private ClergyService clergyService;
+
+    @Autowired
+    private ClergyBatchService clergyBatchService;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${clergy.import.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${clergy.import.parallel-batches:2}")
+    private int parallelBatches;
+
+    @Value("${clergy.import.max-items-per-second:50}")
+    private int maxItemsPerSecond;
+
+    @Value("${clergy.batch.max-items:1000}")
+    private int batchMaxItems;
+
+    public ClergyImportReportDTO importFile(Path file, Path checkpointFile) throws IOException {
+        long start = System.nanoTime();
+        List<ClergyImportRowDTO> rows = read(file);
+        int n = rows.size();
+
+        ClergyImportReportDTO report = new ClergyImportReportDTO();
+        report.setFile(file.toString());
+        report.setTotal(n);
+
+        String[] error = new String[n];
+        ClergyDTO[] dtos = new ClergyDTO[n];
+        for (int i = 0; i < n; i++) {
+            try {
+                dtos[i] = toDTO(rows.get(i));
+            } catch (RuntimeException e) {
+                error[i] = e.getMessage();
+            }
+        }
+
+        int[] parent = resolveParents(rows, dtos, error);
+        List<List<Integer>> layers = layers(parent, error);
+        report.setLayers(layers.size());
+
+        // Hashes de todos os registros, camada por camada (o hash do filho depende do pai)
+        Map<String, Integer> computed = new HashMap<>();
+        for (List<Integer> layer : layers) {
+            for (int i : layer) {
+                if (parent[i] >= 0) {
+                    if (error[parent[i]] != null) {
+                        error[i] = "Pai inválido no arquivo (registro " + rows.get(parent[i]).getRecord() + ").";
+                        continue;
+                    }
+                    dtos[i].setParentHash(dtos[parent[i]].getHash());
+                }
+                String hash = clergyService.generateDeterministicHash(dtos[i]);
+                String declared = rows.get(i).getHash();
+                if (declared != null && !declared.isBlank() && !declared.trim().equalsIgnoreCase(hash)) {
+                    error[i] = "Hash informado não confere com o calculado: " + hash;
+                    continue;
+                }
+                // Lotes diferentes da mesma camada mandariam a mesma conta duas vezes
+                Integer first = computed.putIfAbsent(hash, i);
+                if (first != null) {
+                    error[i] = "Duplicado do registro " + rows.get(first).getRecord() + ".";
+                    continue;
+                }
+                dtos[i].setHash(hash);
+            }
+        }
+
+        Set<String> done = loadCheckpoint(checkpointFile);
+        try (BufferedWriter checkpoint = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (int l = 0; l < layers.size(); l++) {
+                List<Integer> pending = new ArrayList<>();
+                for (int i : layers.get(l)) {
+                    if (error[i] != null) continue;
+                    if (parent[i] >= 0 && error[parent[i]] != null) {
+                        error[i] = "Pai falhou na importação: " + dtos[i].getParentHash();
+                    } else if (done.contains(dtos[i].getHash())) {
+                        report.setResumed(report.getResumed() + 1);
+                    } else {
+                        pending.add(i);
+                    }
+                }
+                submitLayer(pending, dtos, error, checkpoint, report);
+                System.out.println("ClergyImportService: camada " + (l + 1) + "/" + layers.size() + " ("
+                        + pending.size() + " enviados), " + report.getConfirmed() + " confirmados até agora.");
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (error[i] == null) continue;
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add("registro " + rows.get(i).getRecord() + " (" + rows.get(i).getName() + "): " + error[i]);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        report.setElapsedMs(elapsed / 1_000_000);
+        report.setItemsPerSecond(report.getConfirmed() / Math.max(elapsed / 1e9, 0.001));
+        return report;
+    }
+
+    // Lotes de uma camada em paralelo, no máximo `parallel-batches` ao mesmo tempo e
+    // `max-items-per-second` itens por segundo
+    private void submitLayer(List<Integer> pending, ClergyDTO[] dtos, String[] error,
+                             BufferedWriter checkpoint, ClergyImportReportDTO report) {
+        if (pending.isEmpty()) return;
+        int size = Math.max(1, Math.min(chunkSize, batchMaxItems));
+        Semaphore slots = new Semaphore(Math.max(1, parallelBatches));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long nextAllowed = System.nanoTime();
+
+        for (int from = 0; from < pending.size(); from += size) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + size, pending.size()));
+            try {
+                long wait = nextAllowed - System.nanoTime();
+                if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Importação interrompida.");
+            }
+            if (maxItemsPerSecond > 0) {
+                nextAllowed = Math.max(nextAllowed, System.nanoTime()) + chunk.size() * 1_000_000_000L / maxItemsPerSecond;
+            }
+
+            CompletableFuture<List<ClergyBatchItemDTO>> batch;
+            try {
+                batch = clergyBatchService.registerBatch(chunk.stream().map(i -> dtos[i]).toList());
+            } catch (Exception e) {
+                batch = CompletableFuture.failedFuture(e);
+            }
+            futures.add(batch.handle((items, e) -> {
+                try {
+                    record(chunk, items, e, dtos, error, checkpoint, report);
+                } finally {
+                    slots.release();
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private synchronized void record(List<Integer> chunk, List<ClergyBatchItemDTO> items, Throwable failure,
+                                     ClergyDTO[] dtos, String[] error, BufferedWriter checkpoint,
+                                     ClergyImportReportDTO report) {
+        try {
+            for (int k = 0; k < chunk.size(); k++) {
+                int i = chunk.get(k);
+                if (failure != null) {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                    error[i] = cause.getMessage();
+                    continue;
+                }
+                ClergyBatchItemDTO item = items.get(k);
+                switch (item.getStatus()) {
+                    case CONFIRMED -> report.setConfirmed(report.getConfirmed() + 1);
+                    case SKIPPED -> report.setSkipped(report.getSkipped() + 1);
+                    default -> {
+                        error[i] = item.getError();
+                        continue;
+                    }
+                }
+                checkpoint.write(dtos[i].getHash());
+                checkpoint.newLine();
+            }
+            checkpoint.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Índice do pai dentro do arquivo, ou -1 (pai no banco ou sem pai)
+    private int[] resolveParents(List<ClergyImportRowDTO> rows, ClergyDTO[] dtos, String[] error) {
+        int n = rows.size();
+        Map<String, Integer> byId = new HashMap<>();
+        Map<String, Integer> byHash = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            ClergyImportRowDTO row = rows.get(i);
+            if (!isBlank(row.getId()) && byId.putIfAbsent(row.getId().trim(), i) != null && error[i] == null) {
+                error[i] = "id duplicado no arquivo: " + row.getId();
+            }
+            if (!isBlank(row.getHash())) byHash.putIfAbsent(row.getHash().trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        Set<String> external = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            if (error[i] != null) continue;
+            ClergyImportRowDTO row = rows.get(i);
+            if (!isBlank(row.getParentId())) {
+                Integer p = byId.get(row.getParentId().trim());
+                if (p == null) {
+                    error[i] = "Pai não encontrado no arquivo: id " + row.getParentId();
+                } else {
+                    parent[i] = p;
+                }
+            } else if (!isSentinel(dtos[i].getParentHash())) {
+                Integer p = byHash.get(dtos[i].getParentHash().toLowerCase(Locale.ROOT));
+                if (p != null) {
+                    parent[i] = p;
+                } else {
+                    external.add(dtos[i].getParentHash());
+                }
+            }
+            if (parent[i] == i) {
+                error[i] = "Registro é pai de si mesmo.";
+                parent[i] = -1;
+            }
+        }
+
+        // Pais fora do arquivo precisam existir no banco
+        Set<String> persisted = new HashSet<>();
+        List<String> lookup = new ArrayList<>(external);
+        for (int from = 0; from < lookup.size(); from += LOOKUP_CHUNK) {
+            clergyRepository.findAllById(lookup.subList(from, Math.min(from + LOOKUP_CHUNK, lookup.size())))
+                    .forEach(c -> persisted.add(c.getHash()));
+        }
+        for (int i = 0; i < n; i++) {
+            if (error[i] == null && parent[i] < 0 && !isSentinel(dtos[i].getParentHash())
+                    && !persisted.contains(dtos[i].getParentHash())) {
+                error[i] = "Pai não encontrado: " + dtos[i].getParentHash();
+            }
+        }
+        return parent;
+    }
+
+    // Camada 0: pai no banco (ou sem pai); camada k: pai na camada k-1. Ciclos e
+    // descendentes de registros inválidos ficam de fora, com erro.
+    private static List<List<Integer>> layers(int[] parent, String[] error) {
+        int n = parent.length;
+        int[] depth = new int[n];
+        Arrays.fill(depth, UNKNOWN);
+        List<Integer> path = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            if (depth[i] != UNKNOWN) continue;
+            path.clear();
+            int node = i;
+            while (node >= 0 && depth[node] == UNKNOWN && error[node] == null) {
+                depth[node] = VISITING;
+                path.add(node);
+                node = parent[node];
+            }
+
+            int base;
+            String reason = null;
+            if (node < 0) {
+                base = -1;
+            } else if (depth[node] == VISITING) {
+                base = FAILED;
+                reason = "Referência circular entre pais no arquivo.";
+            } else if (error[node] != null || depth[node] == FAILED) {
+                if (depth[node] == UNKNOWN) depth[node] = FAILED;
+                base = FAILED;
+                reason = "Pai inválido no arquivo.";
+            } else {
+                base = depth[node];
+            }
+
+            for (int k = path.size() - 1; k >= 0; k--) {
+                int p = path.get(k);
+                if (base == FAILED) {
+                    depth[p] = FAILED;
+                    error[p] = reason;
+                } else {
+                    depth[p] = ++base;
+                }
+            }
+        }
+
+        List<List<Integer>> layers = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (depth[i] < 0) continue;
+            while (layers.size() <= depth[i]) layers.add(new ArrayList<>());
+            layers.get(depth[i]).add(i);
+        }
+        return layers;
+    }
+
+    private static ClergyDTO toDTO(ClergyImportRowDTO row) {
+        if (isBlank(row.getName())) throw new IllegalArgumentException("Nome vazio.");
+        if (isBlank(row.getRole())) throw new IllegalArgumentException("Role vazio.");
+        if (isBlank(row.getStartDate())) throw new IllegalArgumentException("start_date vazio.");
+
+        ClergyDTO dto = new ClergyDTO();
+        dto.setName(row.getName());
+        try {
+            dto.setRole(Clergy.Role.valueOf(row.getRole().trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Role inválido: " + row.getRole());
+        }
+        if (dto.getRole() == Clergy.Role.ROOT) throw new IllegalArgumentException("ROOT só é criado pelo genesis.");
+        dto.setStartDate(date(row.getStartDate(), "start_date"));
+        if (!isBlank(row.getPapacyStartDate())) dto.setPapacyStartDate(date(row.getPapacyStartDate(), "papacy_start_date"));
+        if (!isBlank(row.getParentHash())) dto.setParentHash(row.getParentHash().trim());
+        return dto;
+    }
+
+    private static LocalDate date(String value, String field) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(field + " inválido: " + value);
+        }
+    }
+
+    private static Set<String> loadCheckpoint(Path checkpointFile) throws IOException {
+        Set<String> done = new HashSet<>();
+        if (!Files.exists(checkpointFile)) return done;
+        try (BufferedReader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) done.add(line.trim());
+            }
+        }
+        System.out.println("ClergyImportService: " + done.size() + " hashes no checkpoint " + checkpointFile + ".");
+        return done;
+    }
+
+    // --- Leitura ---
+
+    private List<ClergyImportRowDTO> read(Path file) throws IOException {
+        List<ClergyImportRowDTO> rows = new ArrayList<>();
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                readCsv(reader, rows);
+            }
+        } else {
+            // Um array JSON ou um objeto por linha (NDJSON da exportação)
+            try (InputStream in = Files.newInputStream(file);
+                 MappingIterator<ClergyImportRowDTO> it = objectMapper.readerFor(ClergyImportRowDTO.class).readValues(in)) {
+                while (it.hasNext()) add(rows, it.next());
+            }
+        }
+        return rows;
+    }
+
+    private static void readCsv(Reader reader, List<ClergyImportRowDTO> rows) throws IOException {
+        List<String> header = csvRecord(reader);
+        if (header == null) return;
+        String[] columns = header.stream()
+                .map(h -> h.replace("_", "").replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+
+        List<String> values;
+        while ((values = csvRecord(reader)) != null) {
+            if (values.size() == 1 && values.get(0).isBlank()) continue;
+            ClergyImportRowDTO row = new ClergyImportRowDTO();
+            for (int c = 0; c < columns.length && c < values.size(); c++) {
+                String v = values.get(c).isEmpty() ? null : values.get(c);
+                switch (columns[c]) {
+                    case "id" -> row.setId(v);
+                    case "parentid" -> row.setParentId(v);
+                    case "parenthash" -> row.setParentHash(v);
+                    case "hash" -> row.setHash(v);
+                    case "name" -> row.setName(v);
+                    case "role" -> row.setRole(v);
+                    case "startdate" -> row.setStartDate(v);
+                    case "papacystartdate" -> row.setPapacyStartDate(v);
+                    default -> { }
+                }
+            }
+            add(rows, row);
+        }
+    }
+
+    // Um registro RFC 4180 (aspas duplas, vírgulas e quebras de linha dentro de aspas); null no fim
+    private static List<String> csvRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int ch = reader.read();
+        if (ch < 0) return null;
+        while (ch >= 0) {
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next >= 0) reader.reset();
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append((char) ch);
+            }
+            ch = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void add(List<ClergyImportRowDTO> rows, ClergyImportRowDTO row) {
+        row.setRecord(rows.size() + 1);
+        rows.add(row);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean isSentinel(String parentHash) {
+        return parentHash == null
+                || parentHash.isBlank()
+                || parentHash.equalsIgnoreCase("00x00x00");
+    }
+}
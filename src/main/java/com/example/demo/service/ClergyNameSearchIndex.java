@@ -0,0 +1,209 @@
+// ClergyNameSearchIndex.java
+package com.example.demo.service;
+
+import com.example.demo.repository.PublicClergyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// Índice de trigramas sobre os nomes, sem acento e sem caixa ("João" == "joao").
+// Cada palavra é indexada com o mesmo padding do pg_trgm ("  jo", " jo", "joa"...),
+// então termos curtos viram busca por prefixo e termos longos por substring.
+// Substitui o ILIKE '%termo%', que varre a tabela inteira a cada tecla.
+@Component
+public class ClergyNameSearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^\\p{Alnum}]+");
+
+    // Candidatos aproximados precisam de pelo menos metade dos trigramas do termo
+    private static final double MIN_FUZZY_OVERLAP = 0.5;
+
+    @Autowired
+    private PublicClergyRepository publicClergyRepository;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // Trigrama -> ids em ordem crescente
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+    private volatile String[] hashes = new String[1024];
+    private volatile String[] folded = new String[1024];
+    private volatile int size;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Object[]> rows = publicClergyRepository.findAllNames();
+            synchronized (this) {
+                for (Object[] row : rows) {
+                    add((String) row[0], (String) row[1]);
+                }
+                ready = true;
+            }
+            System.out.println("ClergyNameSearchIndex: " + size + " nomes indexados.");
+        } catch (Exception e) {
+            System.err.println("ClergyNameSearchIndex: falha ao carregar, usando ILIKE. " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClergyCreated(ClergyCreatedEvent event) {
+        add(event.clergy().getHash(), event.clergy().getName());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Até `limit` hashes, do melhor para o pior. Retorna null quando o índice
+    // ainda não carregou — o chamador cai para o SQL.
+    public List<String> search(String term, int limit) {
+        if (!ready) return null;
+        String query = fold(term);
+        if (query.isEmpty()) return List.of();
+
+        // size antes dos arrays: add() publica os arrays (já crescidos) antes de size,
+        // então os arrays lidos depois sempre têm pelo menos n posições preenchidas
+        int n = size;
+        String[] names = folded;
+        String[] keys = hashes;
+        Set<String> grams = queryGrams(query);
+
+        Map<Integer, Integer> hits = new HashMap<>();
+        for (String gram : grams) {
+            Posting posting = postings.get(gram);
+            if (posting == null) continue;
+            // mesma ordem de leitura: count antes de docs
+            int count = posting.count;
+            int[] docs = posting.docs;
+            for (int i = 0; i < count; i++) {
+                int id = docs[i];
+                if (id < n) hits.merge(id, 1, Integer::sum);
+            }
+        }
+
+        int minFuzzy = (int) Math.ceil(grams.size() * MIN_FUZZY_OVERLAP);
+        List<Candidate> candidates = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+            int id = hit.getKey();
+            int tier = tier(names[id], query);
+            if (tier == Candidate.FUZZY && hit.getValue() < minFuzzy) continue;
+            candidates.add(new Candidate(id, tier, hit.getValue(), names[id].length()));
+        }
+
+        candidates.sort(null);
+        List<String> result = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && result.size() < limit; i++) {
+            result.add(keys[candidates.get(i).id]);
+        }
+        return result;
+    }
+
+    synchronized void add(String hash, String name) {
+        if (hash == null || name == null || ids.containsKey(hash)) return;
+
+        int id = size;
+        if (id == hashes.length) {
+            int capacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            folded = Arrays.copyOf(folded, capacity);
+        }
+
+        String f = fold(name);
+        hashes[id] = hash;
+        folded[id] = f;
+        for (String gram : indexGrams(f)) {
+            postings.computeIfAbsent(gram, g -> new Posting()).append(id);
+        }
+        size = id + 1;
+        ids.put(hash, id);
+    }
+
+    static String fold(String text) {
+        if (text == null) return "";
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALNUM.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // "  w", " wo", "wor", ..., "rd " para cada palavra, como o pg_trgm
+    static Set<String> indexGrams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : folded.split(" ")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    // Palavras com 3+ letras usam só os trigramas internos (casam em qualquer posição);
+    // palavras curtas usam o padding da esquerda e casam como prefixo de palavra.
+    static Set<String> queryGrams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : folded.split(" ")) {
+            if (word.isEmpty()) continue;
+            if (word.length() >= 3) {
+                for (int i = 0; i + 3 <= word.length(); i++) grams.add(word.substring(i, i + 3));
+            } else {
+                String padded = "  " + word;
+                for (int i = 0; i + 3 <= padded.length(); i++) grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static int tier(String name, String query) {
+        if (name.startsWith(query)) return Candidate.NAME_PREFIX;
+        int at = name.indexOf(query);
+        if (at < 0) return Candidate.FUZZY;
+        return name.charAt(at - 1) == ' ' ? Candidate.WORD_PREFIX : Candidate.SUBSTRING;
+    }
+
+    // Lista de ids que cresce dobrando, para a carga inicial não copiar o array a cada nome.
+    // Só add() escreve (sob o lock do índice) e publica docs antes de count, como os arrays
+    // de nomes com size: quem lê count e depois docs vê pelo menos count ids preenchidos.
+    private static final class Posting {
+        private volatile int[] docs = new int[4];
+        private volatile int count;
+
+        void append(int id) {
+            int at = count;
+            if (at == docs.length) docs = Arrays.copyOf(docs, at * 2);
+            docs[at] = id;
+            count = at + 1;
+        }
+    }
+
+    // Ordem: casamento exato antes de aproximado; depois mais trigramas em comum e nome mais curto
+    private record Candidate(int id, int tier, int hits, int length) implements Comparable<Candidate> {
+        static final int NAME_PREFIX = 0;
+        static final int WORD_PREFIX = 1;
+        static final int SUBSTRING = 2;
+        static final int FUZZY = 3;
+
+        @Override
+        public int compareTo(Candidate o) {
+            if (tier != o.tier) return Integer.compare(tier, o.tier);
+            if (hits != o.hits) return Integer.compare(o.hits, hits);
+            if (length != o.length) return Integer.compare(length, o.length);
+            return Integer.compare(id, o.id);
+        }
+    }
+}
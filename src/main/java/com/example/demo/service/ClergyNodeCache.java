@@ -0,0 +1,82 @@
+// ClergyNodeCache.java
+package com.example.demo.service;
+
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.PublicClergyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Cache read-through dos nós por hash. Linhas de clergy nunca mudam depois de
+// gravadas, então não há invalidação: só o limite de tamanho despeja entradas.
+// Métricas em cache.gets / cache.evictions com a tag cache=clergy.nodes.
+@Component
+public class ClergyNodeCache {
+
+    @Autowired
+    private PublicClergyRepository publicClergyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${clergy.node-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, Clergy> cache;
+
+    @PostConstruct
+    void start() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "clergy.nodes");
+    }
+
+    // Papas e raiz são os nós mais clicados no explorador
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            List<Clergy> popes = publicClergyRepository.findPopesAndRoot();
+            popes.forEach(c -> cache.put(c.getHash(), c));
+            System.out.println("ClergyNodeCache: " + popes.size() + " nós pré-carregados.");
+        } catch (Exception e) {
+            System.err.println("ClergyNodeCache: falha ao pré-carregar. " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClergyCreated(ClergyCreatedEvent event) {
+        cache.put(event.clergy().getHash(), event.clergy());
+    }
+
+    // null quando o hash não existe (ausência não é cacheada)
+    public Clergy get(String hash) {
+        if (hash == null) return null;
+        return cache.get(hash, h -> {
+            List<Clergy> rows = publicClergyRepository.findByHash(h);
+            return rows.isEmpty() ? null : rows.get(0);
+        });
+    }
+
+    // Só os hashes ausentes vão ao banco, num único findAllById
+    public Map<String, Clergy> getAll(Collection<String> hashes) {
+        return cache.getAll(hashes, missing -> publicClergyRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Clergy::getHash, Function.identity())));
+    }
+}
@@ -0,0 +1,157 @@
+// ClergyOutboxRecovery.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.model.ClergyOutbox;
+import com.example.demo.repository.ClergyOutboxRepository;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.solana.SolanaRpcGateway.SignatureStatus;
+import org.p2p.solanaj.core.PublicKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Reconcilia o outbox com a chain: intenções paradas há mais de `grace-seconds`
+// (queda entre o envio e o INSERT, timeout de confirmação, erro de envio ambíguo).
+// A conta do clérigo é a verdade: existe on-chain -> grava em clergy; não existe
+// e a transação falhou, ou o blockhash já expirou -> a intenção é descartada.
+@Component
+public class ClergyOutboxRecovery {
+
+    // Limites por chamada dos métodos RPC
+    private static final int MAX_ACCOUNTS = 100;
+    private static final int MAX_SIGNATURES = 256;
+
+    @Autowired
+    private ClergyOutboxRepository outboxRepository;
+
+    @Autowired
+    private ClergyService clergyService;
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    // Bem acima da validade do blockhash (~60-90 s) somada ao timeout de confirmação
+    @Value("${clergy.outbox.grace-seconds:180}")
+    private long graceSeconds;
+
+    @Value("${clergy.outbox.recovery-batch-size:500}")
+    private int batchSize;
+
+    // Startup e agendamento não podem reconciliar ao mesmo tempo
+    private final ReentrantLock running = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recover();
+    }
+
+    @Scheduled(fixedDelayString = "${clergy.outbox.recovery-interval-ms:60000}",
+               initialDelayString = "${clergy.outbox.recovery-interval-ms:60000}")
+    public void recover() {
+        if (!running.tryLock()) return;
+        try {
+            int confirmed = 0, discarded = 0, pending = 0;
+            while (true) {
+                LocalDateTime cutoff = LocalDateTime.now().minusSeconds(graceSeconds);
+                List<ClergyOutbox> rows = outboxRepository.findStale(cutoff, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) break;
+
+                int[] outcome = reconcile(rows);
+                confirmed += outcome[0];
+                discarded += outcome[1];
+                pending += outcome[2];
+                // Só as pendentes continuariam na próxima página: evita girar em falso
+                if (rows.size() < batchSize || outcome[2] == rows.size()) break;
+            }
+            if (confirmed + discarded + pending > 0) {
+                System.out.println("ClergyOutboxRecovery: " + confirmed + " confirmadas, "
+                        + discarded + " descartadas, " + pending + " ainda pendentes.");
+            }
+        } catch (Exception e) {
+            System.err.println("ClergyOutboxRecovery: falha na reconciliação. " + e.getMessage());
+        } finally {
+            running.unlock();
+        }
+    }
+
+    // {confirmadas, descartadas, pendentes}
+    private int[] reconcile(List<ClergyOutbox> rows) throws Exception {
+        List<byte[]> accounts = fetchAccounts(rows);
+        Map<String, SignatureStatus> statuses = fetchStatuses(rows);
+
+        List<ClergyDTO> confirmed = new ArrayList<>();
+        List<String> discarded = new ArrayList<>();
+        int pending = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            ClergyOutbox row = rows.get(i);
+            SignatureStatus status = row.getSignature() != null ? statuses.get(row.getSignature()) : null;
+            if (accounts.get(i) != null) {
+                confirmed.add(toDTO(row));
+            } else if (status != null && status.err() == null) {
+                // Entrou num slot mas a conta ainda não aparece no commitment do nó
+                pending++;
+            } else {
+                if (status != null) {
+                    System.err.println("ClergyOutboxRecovery: " + row.getHash() + " falhou on-chain: " + status.err());
+                }
+                discarded.add(row.getHash());
+            }
+        }
+
+        // Em ordem de criação: pais entram antes dos filhos
+        if (!confirmed.isEmpty()) clergyService.saveConfirmedBatch(confirmed);
+        if (!discarded.isEmpty()) outboxRepository.deleteAllByIdInBatch(discarded);
+        return new int[] { confirmed.size(), discarded.size(), pending };
+    }
+
+    private List<byte[]> fetchAccounts(List<ClergyOutbox> rows) throws Exception {
+        List<byte[]> accounts = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += MAX_ACCOUNTS) {
+            List<PublicKey> keys = rows.subList(from, Math.min(from + MAX_ACCOUNTS, rows.size())).stream()
+                    .map(row -> new PublicKey(row.getPda()))
+                    .toList();
+            accounts.addAll(rpc.getMultipleAccounts(keys));
+        }
+        return accounts;
+    }
+
+    // Um lote grava a mesma assinatura em várias linhas: cada uma é consultada uma vez
+    private Map<String, SignatureStatus> fetchStatuses(List<ClergyOutbox> rows) throws Exception {
+        List<String> signatures = new ArrayList<>(new LinkedHashSet<>(rows.stream()
+                .map(ClergyOutbox::getSignature)
+                .filter(sig -> sig != null)
+                .toList()));
+
+        Map<String, SignatureStatus> statuses = new HashMap<>();
+        for (int from = 0; from < signatures.size(); from += MAX_SIGNATURES) {
+            List<String> chunk = signatures.subList(from, Math.min(from + MAX_SIGNATURES, signatures.size()));
+            List<SignatureStatus> result = rpc.getSignatureStatuses(chunk);
+            for (int i = 0; i < chunk.size(); i++) statuses.put(chunk.get(i), result.get(i));
+        }
+        return statuses;
+    }
+
+    private static ClergyDTO toDTO(ClergyOutbox row) {
+        ClergyDTO dto = new ClergyDTO();
+        dto.setHash(row.getHash());
+        dto.setParentHash(row.getParentHash());
+        dto.setName(row.getName());
+        dto.setRole(row.getRole());
+        dto.setStartDate(row.getStartDate());
+        dto.setPapacyStartDate(row.getPapacyStartDate());
+        return dto;
+    }
+}
@@ -0,0 +1,133 @@
+// ClergyPdaResolver.java
+package com.example.demo.service;
+
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.util.ChainCodec;
+import com.example.demo.util.ClergyAccountDecoder;
+import jakarta.annotation.PostConstruct;
+import org.p2p.solanaj.core.PublicKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cache hash -> (PDA, bump) das contas de clérigo (seeds "clergy" + 32 bytes do hash).
+// A busca do bump (findProgramAddress: SHA-256 + teste de curva por tentativa) roda
+// uma vez por nó; o bump fica em clergy.pda_bump e no startup cada PDA é refeita com
+// um único createProgramAddress.
+@Component
+public class ClergyPdaResolver {
+
+    private static final byte[] SEED_PREFIX = "clergy".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Value("${solana.program.id}")
+    private String programIdString;
+
+    private PublicKey programId;
+
+    private final Map<String, Pda> cache = new ConcurrentHashMap<>();
+
+    public record Pda(PublicKey address, int bump) {}
+
+    @PostConstruct
+    void start() {
+        programId = new PublicKey(programIdString);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            List<Object[]> rows = clergyRepository.findAllPdaBumps();
+            Map<String, Integer> discovered = new HashMap<>();
+            int skipped = 0;
+            for (Object[] row : rows) {
+                String hash = (String) row[0];
+                try {
+                    if (row[1] != null) {
+                        cache.put(hash, derive(hash, ((Number) row[1]).intValue()));
+                    } else {
+                        Pda pda = cache.computeIfAbsent(hash, this::search);
+                        discovered.put(hash, pda.bump());
+                    }
+                } catch (RuntimeException e) {
+                    skipped++;
+                }
+            }
+            // Linhas anteriores à coluna pda_bump: grava o bump recém-descoberto
+            if (!discovered.isEmpty()) clergyRepository.updatePdaBumps(discovered);
+            System.out.println("ClergyPdaResolver: " + cache.size() + " PDAs em cache ("
+                    + discovered.size() + " bumps novos, " + skipped + " hashes inválidos).");
+        } catch (Exception e) {
+            System.err.println("ClergyPdaResolver: falha ao pré-carregar. " + e.getMessage());
+        }
+    }
+
+    public Pda resolve(String hash) {
+        return cache.computeIfAbsent(hash, this::search);
+    }
+
+    // Confere que `address` é a PDA de `hash` com esse bump (dados vindos da chain) e guarda
+    public boolean learn(String hash, PublicKey address, int bump) {
+        try {
+            Pda pda = derive(hash, bump);
+            if (!pda.address().equals(address)) return false;
+            cache.putIfAbsent(hash, pda);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // Conta Clergy lida da chain -> linha de clergy, com os hashes normalizados como no
+    // banco. null quando os dados não decodificam ou `address` não é a PDA do próprio hash.
+    // Indexador e auditoria passam por aqui para nunca divergirem na leitura da conta.
+    public Clergy decodeAccount(String address, byte[] data) {
+        if (data == null) return null;
+        try {
+            Clergy clergy = ClergyAccountDecoder.decode(data);
+            clergy.setHash(ChainCodec.normalizeHash(clergy.getHash()));
+            if (clergy.getParentHash() != null) {
+                try {
+                    clergy.setParentHash(ChainCodec.normalizeHash(clergy.getParentHash()));
+                } catch (IllegalArgumentException e) {
+                    // sentinela ("00x00x00"): fica como está
+                }
+            }
+            if (!learn(clergy.getHash(), new PublicKey(address), clergy.getPdaBump())) return null;
+            return clergy;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Pda search(String hash) {
+        try {
+            PublicKey.ProgramDerivedAddress pda = PublicKey.findProgramAddress(
+                    List.of(SEED_PREFIX, ChainCodec.hashToSeedBytes(hash)), programId);
+            return new Pda(pda.getAddress(), pda.getNonce());
+        } catch (Exception e) {
+            throw new RuntimeException("Falha ao derivar PDA de " + hash + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Pda derive(String hash, int bump) {
+        try {
+            PublicKey address = PublicKey.createProgramAddress(
+                    List.of(SEED_PREFIX, ChainCodec.hashToSeedBytes(hash), new byte[] {(byte) bump}), programId);
+            return new Pda(address, bump);
+        } catch (Exception e) {
+            throw new RuntimeException("Falha ao derivar PDA de " + hash + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+// ClergyRegistrationPipeline.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.dto.ClergyJobDTO;
+import com.example.demo.dto.ClergyJobDTO.Status;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Fila de registro de clérigos: o POST só enfileira e devolve o id do job;
+// os workers enviam a transação, esperam a confirmação e gravam a linha.
+@Service
+public class ClergyRegistrationPipeline {
+
+    @Autowired
+    private ClergyService clergyService;
+
+    @Value("${clergy.pipeline.workers:2}")
+    private int workers;
+
+    @Value("${clergy.pipeline.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${clergy.pipeline.job-ttl-minutes:60}")
+    private long jobTtlMinutes;
+
+    private final Map<String, ClergyJobDTO> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> inFlightByHash = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "clergy-pipeline-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public ClergyJobDTO enqueue(ClergyDTO dto) {
+        pruneFinishedJobs();
+
+        String hash = clergyService.prepareRegistration(dto);
+
+        ClergyJobDTO job = new ClergyJobDTO();
+        job.setId(UUID.randomUUID().toString());
+        job.setStatus(Status.QUEUED);
+        job.setHash(hash);
+        job.setName(dto.getName());
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(job.getCreatedAt());
+
+        if (inFlightByHash.putIfAbsent(hash, job.getId()) != null) {
+            throw new RuntimeException("Registro deste clérigo já está em andamento.");
+        }
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> process(job.getId(), dto));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            inFlightByHash.remove(hash);
+            throw new RuntimeException("Fila de registro cheia. Tente novamente em instantes.");
+        }
+        return job;
+    }
+
+    public ClergyJobDTO getJob(String id) {
+        return jobs.get(id);
+    }
+
+    // O worker só assina e envia; a confirmação chega pelo SignatureConfirmationTracker
+    // e libera o worker para o próximo registro no ritmo que o RPC aguenta.
+    private void process(String jobId, ClergyDTO dto) {
+        try {
+            clergyService.createClergy(dto, signature -> update(jobId, j -> {
+                j.setStatus(Status.SUBMITTED);
+                j.setSignature(signature);
+            })).whenComplete((saved, error) -> {
+                if (error == null) {
+                    update(jobId, j -> j.setStatus(Status.CONFIRMED));
+                } else {
+                    fail(jobId, error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+                inFlightByHash.remove(dto.getHash());
+            });
+        } catch (Exception e) {
+            fail(jobId, e);
+            inFlightByHash.remove(dto.getHash());
+        }
+    }
+
+    private void fail(String jobId, Throwable error) {
+        update(jobId, j -> {
+            j.setStatus(Status.FAILED);
+            j.setError(error.getMessage());
+        });
+    }
+
+    // Cada transição publica uma cópia nova: o controller nunca lê um job pela metade.
+    private void update(String jobId, Consumer<ClergyJobDTO> change) {
+        jobs.computeIfPresent(jobId, (id, current) -> {
+            ClergyJobDTO next = new ClergyJobDTO();
+            next.setId(current.getId());
+            next.setStatus(current.getStatus());
+            next.setHash(current.getHash());
+            next.setName(current.getName());
+            next.setSignature(current.getSignature());
+            next.setError(current.getError());
+            next.setCreatedAt(current.getCreatedAt());
+            change.accept(next);
+            next.setUpdatedAt(Instant.now());
+            return next;
+        });
+    }
+
+    private void pruneFinishedJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(jobTtlMinutes));
+        jobs.values().removeIf(j ->
+                (j.getStatus() == Status.CONFIRMED || j.getStatus() == Status.FAILED)
+                        && j.getUpdatedAt().isBefore(cutoff));
+    }
+}
@@ -1,32 +1,36 @@
 package com.example.demo.service;
 
+import com.example.demo.config.RecentBlockhashProvider;
+import com.example.demo.dto.ClergyCursorPageDTO;
 import com.example.demo.dto.ClergyDTO;
 import com.example.demo.dto.DashboardStatsDTO;
 import com.example.demo.dto.GenesisDTO;
 import com.example.demo.model.Clergy;
+import com.example.demo.model.ClergyOutbox;
+import com.example.demo.repository.ClergyOutboxRepository;
 import com.example.demo.repository.ClergyRepository;
-import com.example.demo.util.AnchorDiscriminator;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.util.ChainCodec;
+import com.example.demo.util.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.p2p.solanaj.core.Account;
 import org.p2p.solanaj.core.PublicKey;
-import org.p2p.solanaj.core.Transaction;
 import org.p2p.solanaj.core.TransactionInstruction;
 import org.p2p.solanaj.core.AccountMeta;
-import org.p2p.solanaj.rpc.RpcClient;
+import org.p2p.solanaj.rpc.RpcException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 public class ClergyService {
@@ -35,27 +39,51 @@ public class ClergyService {
     private ClergyRepository clergyRepository;
 
     @Autowired
-    private RpcClient solanaConnection;
+    private ClergyOutboxRepository outboxRepository;
+
+    @Autowired
+    private SolanaRpcGateway rpc;
 
     @Autowired
     private Account adminWallet;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SignatureConfirmationTracker confirmationTracker;
+
+    @Autowired
+    private RecentBlockhashProvider blockhashProvider;
+
+    @Autowired
+    private PublicStatsSnapshotService statsSnapshotService;
+
+    @Autowired
+    private ClergyPdaResolver pdaResolver;
+
+    @Autowired
+    private GenesisStateCache genesisState;
+
     @Value("${solana.program.id}")
     private String programIdString;
 
-    private static final String JESUS_DETERMINISTIC_INPUT = "GOD_Jesus Cristo_ROOT_1970-01-01";
+    static final String JESUS_DETERMINISTIC_INPUT = "GOD_Jesus Cristo_ROOT_1970-01-01";
 
     public List<Clergy> getPopes() {
-        return clergyRepository.findByRole(Clergy.Role.POPE.name());
+        return clergyRepository.findPopes();
     }
 
     public List<Clergy> getBishops() {
-        return clergyRepository.findByRole(Clergy.Role.BISHOP.name());
+        return clergyRepository.findBishops();
     }
 
     public DashboardStatsDTO getDashboardStats() {
         DashboardStatsDTO stats = new DashboardStatsDTO();
-        stats.setInitialized(checkIfInitializedOnChain());
+        stats.setInitialized(genesisState.isInitialized());
 
         stats.setTotalBishops(clergyRepository.countBishops());
         stats.setTotalPopes(clergyRepository.countPopes());
@@ -64,64 +92,64 @@ public class ClergyService {
         return stats;
     }
 
-    private boolean checkIfInitializedOnChain() {
-        try {
-            String jesusHash = generateHashRaw(JESUS_DETERMINISTIC_INPUT);
-            PublicKey programId = new PublicKey(programIdString);
-
-            PublicKey pdaJesus = PublicKey.findProgramAddress(
-                    Arrays.asList(
-                        "clergy".getBytes(StandardCharsets.UTF_8),
-                        hashToSeedBytes(jesusHash)   
-                    ),
-                    programId
-            ).getAddress();
-
-            var accountInfo = solanaConnection.getApi().getAccountInfo(pdaJesus);
-            boolean initialized = accountInfo != null && accountInfo.getValue() != null;
-
-            System.out.println("=== CHECK GENESIS ===");
-            System.out.println("PDA Jesus: " + pdaJesus.toBase58());
-            System.out.println("AccountInfo: " + (accountInfo != null ? accountInfo.getValue() : "null"));
-            System.out.println("Initialized: " + initialized);
-
-            return initialized;
-        } catch (Exception e) {
-            System.out.println("=== CHECK GENESIS ERRO: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    @Transactional
-    public Clergy createClergy(ClergyDTO dto) throws Exception {
+    // Calcula o hash determinístico e rejeita duplicados antes de enfileirar.
+    public String prepareRegistration(ClergyDTO dto) {
         String deterministicHash = generateDeterministicHash(dto);
         dto.setHash(deterministicHash);
 
         if (clergyRepository.existsById(dto.getHash())) {
             throw new RuntimeException("Hash já registrado. Este clérigo já existe.");
         }
+        return deterministicHash;
+    }
+
+    // Sem @Transactional: a espera pela confirmação não pode segurar uma conexão do pool.
+    // Só o save final abre transação (ver saveClergy), quando o tracker confirmar a TX.
+    public CompletableFuture<Clergy> createClergy(ClergyDTO dto, Consumer<String> onSubmitted) {
+        prepareRegistration(dto);
 
         String txSignature = sendTransactionToSolana(dto);
         if (txSignature == null || txSignature.isEmpty()) {
             throw new RuntimeException("Falha ao assinar e enviar transação na Solana.");
         }
+        onSubmitted.accept(txSignature);
 
-        waitForConfirmation(txSignature);
+        return confirmationTracker.track(txSignature).thenApply(sig -> saveClergy(dto));
+    }
+
+    // Mesmo caminho do lote: a reconciliação do outbox pode ter gravado a linha antes
+    private Clergy saveClergy(ClergyDTO dto) {
+        return saveConfirmedBatch(List.of(dto)).get(0);
+    }
 
-        Clergy newClergy = new Clergy();
-        newClergy.setHash(dto.getHash());
-        newClergy.setParentHash(dto.getParentHash());
-        newClergy.setName(dto.getName());
-        newClergy.setRole(dto.getRole());
-        newClergy.setStartDate(dto.getStartDate());
-        newClergy.setPapacyStartDate(dto.getPapacyStartDate());
+    // Grava um lote já confirmado on-chain num único batch JDBC e fecha as intenções
+    // do outbox na mesma transação
+    public List<Clergy> saveConfirmedBatch(List<ClergyDTO> dtos) {
+        return transactionTemplate.execute(status -> {
+            List<Clergy> rows = dtos.stream().map(this::toClergy).toList();
+            int[] inserted = clergyRepository.batchInsert(rows);
+            outboxRepository.deleteAllByIdInBatch(rows.stream().map(Clergy::getHash).toList());
+            // ON CONFLICT DO NOTHING: só anuncia as linhas que entraram de fato
+            for (int i = 0; i < rows.size(); i++) {
+                if (inserted[i] != 0) eventPublisher.publishEvent(new ClergyCreatedEvent(rows.get(i)));
+            }
+            return rows;
+        });
+    }
 
-        return clergyRepository.save(newClergy);
+    private Clergy toClergy(ClergyDTO dto) {
+        Clergy clergy = new Clergy();
+        clergy.setHash(dto.getHash());
+        clergy.setParentHash(dto.getParentHash());
+        clergy.setName(dto.getName());
+        clergy.setRole(dto.getRole());
+        clergy.setStartDate(dto.getStartDate());
+        clergy.setPapacyStartDate(dto.getPapacyStartDate());
+        clergy.setPdaBump(pdaResolver.resolve(dto.getHash()).bump());
+        return clergy;
     }
 
-    @Transactional
-    public void initializeGenesis(GenesisDTO dto) throws Exception {
+    public CompletableFuture<Void> initializeGenesis(GenesisDTO dto) throws Exception {
         System.out.println("=== INICIO GENESIS ===");
         System.out.println("PeterName: " + dto.getPeterName());
         System.out.println("PeterStartDate: " + dto.getPeterStartDate());
@@ -138,21 +166,8 @@ public class ClergyService {
         byte[] jesusHashBytes = hashToSeedBytes(jesusHash);
         byte[] peterHashBytes = hashToSeedBytes(peterHash);
 
-        PublicKey pdaJesus = PublicKey.findProgramAddress(
-                Arrays.asList(
-                    "clergy".getBytes(StandardCharsets.UTF_8),
-                    jesusHashBytes
-                ),
-                programId
-        ).getAddress();
-
-        PublicKey pdaPeter = PublicKey.findProgramAddress(
-                Arrays.asList(
-                    "clergy".getBytes(StandardCharsets.UTF_8),
-                    peterHashBytes
-                ),
-                programId
-        ).getAddress();
+        PublicKey pdaJesus = pdaResolver.resolve(jesusHash).address();
+        PublicKey pdaPeter = pdaResolver.resolve(peterHash).address();
 
         System.out.println("PDA Jesus: " + pdaJesus.toBase58());
         System.out.println("PDA Peter: " + pdaPeter.toBase58());
@@ -164,42 +179,28 @@ public class ClergyService {
         keys.add(new AccountMeta(adminWallet.getPublicKey(), true, true));
         keys.add(new AccountMeta(new PublicKey("11111111111111111111111111111111"), false, false));
 
-        byte[] discriminator = AnchorDiscriminator.forInstruction("initialize_genesis");
-
         long peterStartDateEpochDay = dto.getPeterStartDate().toEpochDay();
 
         System.out.println("=== INSTRUCTION DATA DEBUG ===");
-        System.out.println("Discriminator: " + Arrays.toString(discriminator));
         System.out.println("Jesus hash bytes length: " + jesusHashBytes.length);
         System.out.println("Peter hash bytes length: " + peterHashBytes.length);
         System.out.println("Peter name: " + dto.getPeterName()
-                + " (" + dto.getPeterName().getBytes(StandardCharsets.UTF_8).length + " bytes)");
+                + " (" + ChainCodec.utf8Length(dto.getPeterName()) + " bytes)");
         System.out.println("Peter start_date (epochDay): " + peterStartDateEpochDay);
 
-        ByteBuffer buffer = ByteBuffer.allocate(512);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        buffer.put(discriminator);                 
-        buffer.put(jesusHashBytes);                 
-        buffer.put(peterHashBytes);               
-        putAnchorString(buffer, dto.getPeterName());
-        buffer.putLong(peterStartDateEpochDay);   
-
-        byte[] instructionData = Arrays.copyOf(buffer.array(), buffer.position());
+        byte[] instructionData = ChainCodec.initializeGenesisData(
+                jesusHashBytes, peterHashBytes, dto.getPeterName(), peterStartDateEpochDay);
 
         System.out.println("Instruction data length: " + instructionData.length);
-        System.out.println("Instruction data (hex): " + bytesToHex(instructionData));
+        System.out.println("Instruction data (hex): " + ChainCodec.toHex(instructionData));
 
-        String recentBlockhash = solanaConnection.getApi().getLatestBlockhash().getValue().getBlockhash();
-        System.out.println("=== RECENT BLOCKHASH: " + recentBlockhash);
-
-        Transaction transaction = new Transaction();
-        transaction.addInstruction(new TransactionInstruction(programId, keys, instructionData));
-        transaction.setRecentBlockHash(recentBlockhash);
+        ClergyDTO jesus = genesisJesus(jesusHash);
+        ClergyDTO peter = genesisPeter(peterHash, jesusHash, dto);
 
         String txSignature;
         try {
-            txSignature = solanaConnection.getApi().sendTransaction(transaction, adminWallet);
+            txSignature = sendRecorded(List.of(jesus, peter),
+                    List.of(new TransactionInstruction(programId, keys, instructionData)));
             System.out.println("=== TX SIGNATURE: " + txSignature);
             System.out.println("=== Explorer: https://explorer.solana.com/tx/" + txSignature + "?cluster=devnet");
         } catch (Exception e) {
@@ -212,68 +213,42 @@ public class ClergyService {
             throw new RuntimeException("Falha na transação Genesis - signature nula.");
         }
 
-        waitForConfirmation(txSignature);
+        return confirmationTracker.track(txSignature)
+                .thenAccept(sig -> {
+                    genesisState.markInitialized();
+                    saveGenesis(jesus, peter);
+                });
+    }
 
+    private void saveGenesis(ClergyDTO jesus, ClergyDTO peter) {
         System.out.println("=== SALVANDO NO BANCO ===");
+        saveConfirmedBatch(List.of(jesus, peter));
+        System.out.println("Jesus salvo: " + jesus.getHash());
+        System.out.println("Pedro salvo: " + peter.getHash());
+        System.out.println("=== GENESIS COMPLETO ===");
+    }
 
-        Clergy jesus = new Clergy();
+    private static ClergyDTO genesisJesus(String jesusHash) {
+        ClergyDTO jesus = new ClergyDTO();
         jesus.setHash(jesusHash);
         jesus.setName("Jesus Cristo");
         jesus.setRole(Clergy.Role.ROOT);
-        jesus.setStartDate(java.time.LocalDate.ofEpochDay(0));
-        jesus.setParentHash(null);
-        clergyRepository.save(jesus);
-        System.out.println("Jesus salvo: " + jesusHash);
+        jesus.setStartDate(LocalDate.ofEpochDay(0));
+        return jesus;
+    }
 
-        Clergy peter = new Clergy();
+    private static ClergyDTO genesisPeter(String peterHash, String jesusHash, GenesisDTO dto) {
+        ClergyDTO peter = new ClergyDTO();
         peter.setHash(peterHash);
+        peter.setParentHash(jesusHash);
         peter.setName(dto.getPeterName());
         peter.setRole(Clergy.Role.POPE);
         peter.setStartDate(dto.getPeterStartDate());
-        peter.setParentHash(jesusHash);
         peter.setPapacyStartDate(dto.getPeterStartDate());
-        clergyRepository.save(peter);
-        System.out.println("Pedro salvo: " + peterHash);
-
-        System.out.println("=== GENESIS COMPLETO ===");
+        return peter;
     }
 
-private void waitForConfirmation(String txSignature) throws Exception {
-    System.out.println("=== AGUARDANDO CONFIRMAÇÃO DA SOLANA...");
-    for (int i = 0; i < 30; i++) {
-        Thread.sleep(2000);
-        try {
-            var statuses = solanaConnection.getApi()
-                    .getSignatureStatuses(List.of(txSignature), true);
-
-            if (statuses != null
-                    && statuses.getValue() != null
-                    && !statuses.getValue().isEmpty()
-                    && statuses.getValue().get(0) != null) {
-
-                var status = statuses.getValue().get(0);
-                String confirmation = status.getConfirmationStatus();
-
-                System.out.println("Tentativa " + (i + 1) + " — status: " + confirmation);
-
-                if ("finalized".equals(confirmation) || "confirmed".equals(confirmation)) {
-                    System.out.println("=== TX CONFIRMADA: " + confirmation);
-                    return;
-                }
-            }
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception ignored) {
-            System.out.println("Tentativa " + (i + 1) + " — RPC sem resposta ainda.");
-        }
-    }
-    throw new RuntimeException(
-        "TX não confirmada em 60s. Verifique: https://explorer.solana.com/tx/"
-        + txSignature + "?cluster=devnet"
-    );
-}
-
-    private String generateDeterministicHash(ClergyDTO dto) {
+    public String generateDeterministicHash(ClergyDTO dto) {
         String input = (dto.getParentHash() != null ? dto.getParentHash() : "ROOT")
                 + "_" + dto.getName()
                 + "_" + dto.getRole()
@@ -281,118 +256,156 @@ private void waitForConfirmation(String txSignature) throws Exception {
         return generateHashRaw(input);
     }
 
-    private String generateHashRaw(String input) {
+    // Helpers de hash/codificação: package-private para os benchmarks JMH (benchmarks/)
+    String generateHashRaw(String input) {
+        return ChainCodec.sha256Hex0x(input);
+    }
+
+    byte[] hashToSeedBytes(String hash) {
+        return ChainCodec.hashToSeedBytes(hash);
+    }
+
+    private String sendTransactionToSolana(ClergyDTO dto) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] encodedHash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder(2 * encodedHash.length);
-            for (byte b : encodedHash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return "0x" + hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
+            String sig = sendClergyInstructions(List.of(dto));
+            System.out.println("TX: " + sig);
+            System.out.println("Explorer: https://explorer.solana.com/tx/" + sig + "?cluster=devnet");
+            return sig;
+
+        } catch (Exception e) {
+            System.out.println("=== ERRO sendTransactionToSolana: " + e.getMessage());
+            e.printStackTrace();
+            return null;
         }
     }
 
-    private byte[] hashToSeedBytes(String hash) {
-        String hex = hash.startsWith("0x") ? hash.substring(2) : hash;
-        return hexStringToBytes(hex);
+    // Instrução create_clergy pronta para ser empacotada (sozinha ou em lote)
+    public TransactionInstruction buildCreateClergyInstruction(ClergyDTO dto) throws Exception {
+        PublicKey programId = new PublicKey(programIdString);
+
+        // Mesma seed de 32 bytes do genesis (antes usava o texto "0x..." do hash)
+        PublicKey pda = pdaResolver.resolve(dto.getHash()).address();
+
+        List<AccountMeta> keys = new ArrayList<>();
+        keys.add(new AccountMeta(pda, false, true));
+        keys.add(new AccountMeta(adminWallet.getPublicKey(), true, true));
+        keys.add(new AccountMeta(new PublicKey("11111111111111111111111111111111"), false, false));
+
+        return new TransactionInstruction(programId, keys, buildAnchorInstructionData(dto));
     }
 
-    private byte[] hexStringToBytes(String hex) {
-        int len = hex.length();
-        byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4)
-                                 + Character.digit(hex.charAt(i + 1), 16));
-        }
-        return data;
+    // create_clergy de todos os itens numa única transação, passando pelo outbox
+    public String sendClergyInstructions(List<ClergyDTO> dtos) throws Exception {
+        List<TransactionInstruction> instructions = new ArrayList<>(dtos.size());
+        for (ClergyDTO dto : dtos) instructions.add(buildCreateClergyInstruction(dto));
+        return sendRecorded(dtos, instructions);
     }
 
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+    // A intenção fica gravada antes do envio e ganha a assinatura depois dele. Em caso de
+    // erro nada é apagado: um timeout não diz se a transação entrou, e quem decide é a
+    // reconciliação (ClergyOutboxRecovery) consultando as contas on-chain.
+    private String sendRecorded(List<ClergyDTO> dtos, List<TransactionInstruction> instructions) throws Exception {
+        List<ClergyOutbox> intents = dtos.stream().map(this::toOutbox).toList();
+        outboxRepository.record(intents);
+
+        String signature = sendInstructions(instructions);
+        if (signature != null && !signature.isEmpty()) {
+            List<String> hashes = intents.stream().map(ClergyOutbox::getHash).toList();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.markSent(hashes, signature, LocalDateTime.now()));
         }
-        return sb.toString();
+        return signature;
     }
 
- 
-    private void putAnchorString(ByteBuffer buffer, String val) {
-        byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
-        buffer.putInt(bytes.length);
-        buffer.put(bytes);
+    private ClergyOutbox toOutbox(ClergyDTO dto) {
+        ClergyOutbox outbox = new ClergyOutbox();
+        outbox.setHash(dto.getHash());
+        outbox.setParentHash(dto.getParentHash());
+        outbox.setName(dto.getName());
+        outbox.setRole(dto.getRole());
+        outbox.setStartDate(dto.getStartDate());
+        outbox.setPapacyStartDate(dto.getPapacyStartDate());
+        outbox.setPda(pdaResolver.resolve(dto.getHash()).address().toBase58());
+        return outbox;
     }
 
-    private String sendTransactionToSolana(ClergyDTO dto) {
+    // Assina com a carteira admin e envia as instruções numa única transação.
+    // O blockhash vem do cache; só em "Blockhash not found" renova e reenvia uma vez.
+    public String sendInstructions(List<TransactionInstruction> instructions) throws Exception {
+        String recentBlockhash = blockhashProvider.get();
         try {
-            PublicKey programId = new PublicKey(programIdString);
+            return signAndSend(instructions, recentBlockhash);
+        } catch (RpcException e) {
+            if (!RecentBlockhashProvider.isBlockhashNotFound(e)) throw e;
+            return signAndSend(instructions, blockhashProvider.refreshAfterFailure(recentBlockhash));
+        }
+    }
 
-        
-            PublicKey pda = PublicKey.findProgramAddress(
-                    Arrays.asList(
-                        "clergy".getBytes(StandardCharsets.UTF_8),
-                        dto.getHash().getBytes(StandardCharsets.UTF_8)  
-                    ),
-                    programId
-            ).getAddress();
-
-            System.out.println("=== sendTransactionToSolana ===");
-            System.out.println("PDA: " + pda.toBase58());
-
-            List<AccountMeta> keys = new ArrayList<>();
-            keys.add(new AccountMeta(pda, false, true));
-            keys.add(new AccountMeta(adminWallet.getPublicKey(), true, true));
-            keys.add(new AccountMeta(new PublicKey("11111111111111111111111111111111"), false, false));
-
-            String recentBlockhash = solanaConnection.getApi().getLatestBlockhash().getValue().getBlockhash();
-
-            Transaction transaction = new Transaction();
-            transaction.setRecentBlockHash(recentBlockhash);
-            transaction.addInstruction(
-                new TransactionInstruction(programId, keys, buildAnchorInstructionData(dto))
-            );
-
-            String sig = solanaConnection.getApi().sendTransaction(transaction, adminWallet);
-            System.out.println("TX: " + sig);
-            System.out.println("Explorer: https://explorer.solana.com/tx/" + sig + "?cluster=devnet");
-            return sig;
+    private String signAndSend(List<TransactionInstruction> instructions, String recentBlockhash) throws RpcException {
+        return rpc.sendTransaction(instructions, adminWallet, recentBlockhash);
+    }
 
-        } catch (Exception e) {
-            System.out.println("=== ERRO sendTransactionToSolana: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+    public PublicKey getAdminPublicKey() {
+        return adminWallet.getPublicKey();
     }
-    public Page<Clergy> findByRole(String role, Pageable pageable) {
-    return clergyRepository.findByRole(role, pageable);
-}
-    private byte[] buildAnchorInstructionData(ClergyDTO dto) {
-        ByteBuffer buffer = ByteBuffer.allocate(512);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-       
-        buffer.put(new byte[]{
-            (byte) 152, (byte) 46, (byte) 13, (byte) 116,
-            (byte) 75, (byte) 132, (byte) 64, (byte) 118
-        });
 
-        putAnchorString(buffer, dto.getHash());
-        putAnchorString(buffer, dto.getParentHash() != null ? dto.getParentHash() : "");
-        putAnchorString(buffer, dto.getName());
-        buffer.put((byte) dto.getRole().ordinal());     
-        buffer.putLong(dto.getStartDate().toEpochDay()); 
+    // Paginação por offset (legado); a ordem vem do SQL, que casa com os índices da V3
+    public Page<Clergy> findByRole(Clergy.Role role, Pageable pageable) {
+        return role == Clergy.Role.POPE
+                ? clergyRepository.findPopes(pageable)
+                : clergyRepository.findBishops(pageable);
+    }
 
-        if (dto.getPapacyStartDate() != null) {
-            buffer.put((byte) 1);
-            buffer.putLong(dto.getPapacyStartDate().toEpochDay());
+    // Paginação por keyset em (start_date, hash) para bispos e (papacy_start_date, hash)
+    // para papas: qualquer página custa o mesmo que a primeira. O total sai do snapshot
+    // de estatísticas em memória, só quando pedido.
+    public ClergyCursorPageDTO findByRoleAfter(Clergy.Role role, String cursor, int size, boolean includeTotal) {
+        int limit = Math.max(1, Math.min(size, 200));
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+
+        // Um a mais para saber se existe próxima página
+        List<Clergy> rows;
+        if (role == Clergy.Role.POPE) {
+            rows = after == null
+                    ? clergyRepository.findPopesFirstPage(limit + 1)
+                    : clergyRepository.findPopesAfter(after.date(), after.hash(), limit + 1);
         } else {
-            buffer.put((byte) 0);
+            rows = after == null
+                    ? clergyRepository.findBishopsFirstPage(limit + 1)
+                    : clergyRepository.findBishopsAfter(after.date(), after.hash(), limit + 1);
         }
 
-        return Arrays.copyOf(buffer.array(), buffer.position());
+        ClergyCursorPageDTO page = new ClergyCursorPageDTO();
+        page.setSize(limit);
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Clergy last = rows.get(limit - 1);
+            LocalDate key = role == Clergy.Role.POPE
+                    ? (last.getPapacyStartDate() != null ? last.getPapacyStartDate() : LocalDate.of(9999, 12, 31))
+                    : last.getStartDate();
+            page.setNextCursor(new PageCursor(key, last.getHash()).encode());
+        }
+        page.setItems(rows);
+        if (includeTotal) page.setTotal(countByRole(role));
+        return page;
+    }
+
+    private long countByRole(Clergy.Role role) {
+        PublicStatsSnapshotService.Snapshot snapshot = statsSnapshotService.current();
+        if (snapshot != null) {
+            return role == Clergy.Role.POPE
+                    ? snapshot.stats().getTotalPopes()
+                    : snapshot.stats().getTotalBishops();
+        }
+        return role == Clergy.Role.POPE ? clergyRepository.countPopes() : clergyRepository.countBishops();
+    }
+    byte[] buildAnchorInstructionData(ClergyDTO dto) {
+        return ChainCodec.createClergyData(
+                dto.getHash(),
+                dto.getParentHash() != null ? dto.getParentHash() : "",
+                dto.getName(),
+                dto.getRole().ordinal(),
+                dto.getStartDate().toEpochDay(),
+                dto.getPapacyStartDate() != null ? dto.getPapacyStartDate().toEpochDay() : null);
     }
 }
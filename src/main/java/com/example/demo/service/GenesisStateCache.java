@@ -0,0 +1,65 @@
+// GenesisStateCache.java
+package com.example.demo.service;
+
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.util.ChainCodec;
+import org.p2p.solanaj.core.PublicKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Se o genesis já existe on-chain (conta PDA de Jesus). A transição é de mão única:
+// visto como true uma vez, fica travado sem novos RPCs. Enquanto false, o RPC é
+// refeito no máximo a cada `solana.genesis.recheck-ttl-ms`, por uma thread só —
+// as demais esperam no lock e reaproveitam o resultado.
+@Component
+public class GenesisStateCache {
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    @Autowired
+    private ClergyPdaResolver pdaResolver;
+
+    @Value("${solana.genesis.recheck-ttl-ms:5000}")
+    private long recheckTtlMs;
+
+    private volatile boolean initialized;
+    private volatile Long checkedAtNanos;
+    private final Object checkLock = new Object();
+
+    public boolean isInitialized() {
+        if (initialized || fresh()) return initialized;
+
+        synchronized (checkLock) {
+            if (initialized || fresh()) return initialized;
+            boolean found = fetch();
+            checkedAtNanos = System.nanoTime();
+            if (found) markInitialized();
+            return found;
+        }
+    }
+
+    // Genesis confirmado por esta instância: não precisa esperar o próximo RPC
+    public void markInitialized() {
+        if (initialized) return;
+        initialized = true;
+        System.out.println("GenesisStateCache: genesis inicializado on-chain.");
+    }
+
+    private boolean fresh() {
+        Long at = checkedAtNanos;
+        return at != null && (System.nanoTime() - at) / 1_000_000L < recheckTtlMs;
+    }
+
+    private boolean fetch() {
+        try {
+            String jesusHash = ChainCodec.sha256Hex0x(ClergyService.JESUS_DETERMINISTIC_INPUT);
+            PublicKey pdaJesus = pdaResolver.resolve(jesusHash).address();
+            return rpc.getAccountData(pdaJesus) != null;
+        } catch (Exception e) {
+            System.err.println("GenesisStateCache: falha ao consultar genesis: " + e.getMessage());
+            return false;
+        }
+    }
+}
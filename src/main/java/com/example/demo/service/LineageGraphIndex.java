@@ -0,0 +1,230 @@
+// LineageGraphIndex.java
+package com.example.demo.service;
+
+import com.example.demo.repository.PublicClergyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Grafo de sucessão em memória: hash -> id inteiro e um vetor de ponteiros para o pai.
+// Carregado uma vez no startup e atualizado a cada commit de novo clérigo, permite
+// responder o /trace sem rodar o WITH RECURSIVE no Postgres. Guarda também a tabela de
+// binary lifting (up[k][v] = ancestral 2^k acima de v) para o ancestral comum em O(log n).
+@Component
+public class LineageGraphIndex {
+
+    // Mesmo limite de profundidade da CTE em PublicClergyRepository.traceLineageToRoot
+    static final int MAX_DEPTH = 150;
+
+    private static final int NO_PARENT = -1;
+    private static final int UNRESOLVED = -2;
+
+    // 2^16 níveis: bem acima de qualquer profundidade real da sucessão
+    private static final int LOG = 16;
+
+    @Autowired
+    private PublicClergyRepository publicClergyRepository;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // Filhos cujo pai ainda não foi indexado (parent hash -> ids). Protegido por "this".
+    private final Map<String, List<Integer>> orphans = new HashMap<>();
+
+    // Filhos de um nó que já existe mas ainda não tem profundidade (algum ancestral
+    // está órfão). Resolvidos em cascata quando o nó ganha profundidade. Protegido por "this".
+    private final Map<Integer, List<Integer>> waitingForDepth = new HashMap<>();
+
+    private volatile String[] hashes = new String[1024];
+    private volatile int[] parent = new int[1024];
+    // -1 enquanto a cadeia até a raiz não estiver completa
+    private int[] depth = new int[1024];
+    private int[][] up = new int[LOG][1024];
+    private volatile int size;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Object[]> edges = publicClergyRepository.findAllEdges();
+            synchronized (this) {
+                for (Object[] edge : edges) {
+                    add((String) edge[0], (String) edge[1]);
+                }
+                ready = true;
+            }
+            System.out.println("LineageGraphIndex: " + size + " nós carregados.");
+        } catch (Exception e) {
+            System.err.println("LineageGraphIndex: falha ao carregar, usando CTE. " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClergyCreated(ClergyCreatedEvent event) {
+        add(event.clergy().getHash(), event.clergy().getParentHash());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Hashes do nó até a raiz (inclusive), na mesma ordem da CTE.
+    // Retorna null quando o índice não consegue responder sozinho (frio, hash
+    // desconhecido ou pai ainda não indexado) — o chamador cai para a CTE.
+    public List<String> pathToRoot(String hash) {
+        if (!ready || hash == null) return null;
+        Integer start = ids.get(hash);
+        if (start == null) return null;
+
+        int[] parents = parent;
+        String[] names = hashes;
+        List<String> path = new ArrayList<>();
+        int node = start;
+        while (path.size() < MAX_DEPTH) {
+            path.add(names[node]);
+            int p = parents[node];
+            if (p == NO_PARENT) break;
+            if (p == UNRESOLVED) return null;
+            node = p;
+        }
+        return path;
+    }
+
+    synchronized void add(String hash, String parentHash) {
+        if (hash == null || ids.containsKey(hash)) return;
+
+        int id = size;
+        if (id == parent.length) {
+            int capacity = parent.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+            for (int k = 0; k < LOG; k++) up[k] = Arrays.copyOf(up[k], capacity);
+        }
+
+        int parentId = NO_PARENT;
+        if (!isSentinel(parentHash)) {
+            Integer known = ids.get(parentHash);
+            if (known != null) {
+                parentId = known;
+            } else {
+                parentId = UNRESOLVED;
+                orphans.computeIfAbsent(parentHash, k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        hashes[id] = hash;
+        parent[id] = parentId;
+        depth[id] = -1;
+        if (parentId == NO_PARENT) {
+            link(id, id);
+        } else if (parentId >= 0 && depth[parentId] >= 0) {
+            link(id, parentId);
+        } else if (parentId >= 0) {
+            waitingForDepth.computeIfAbsent(parentId, k -> new ArrayList<>()).add(id);
+        }
+        size = id + 1;
+        ids.put(hash, id);
+
+        List<Integer> children = orphans.remove(hash);
+        if (children != null) {
+            for (int child : children) {
+                parent[child] = id;
+                if (depth[id] >= 0) {
+                    link(child, id);
+                } else {
+                    waitingForDepth.computeIfAbsent(id, k -> new ArrayList<>()).add(child);
+                }
+            }
+        }
+    }
+
+    // Preenche profundidade e saltos de `id` (raiz quando p == id) e propaga para
+    // os descendentes que estavam esperando por ele.
+    private void link(int id, int p) {
+        Deque<int[]> pending = new ArrayDeque<>();
+        pending.push(new int[] {id, p});
+        while (!pending.isEmpty()) {
+            int[] next = pending.pop();
+            int node = next[0];
+            int par = next[1];
+
+            up[0][node] = par;
+            for (int k = 1; k < LOG; k++) up[k][node] = up[k - 1][up[k - 1][node]];
+            depth[node] = node == par ? 0 : depth[par] + 1;
+
+            List<Integer> waiting = waitingForDepth.remove(node);
+            if (waiting != null) {
+                for (int child : waiting) pending.push(new int[] {child, node});
+            }
+        }
+    }
+
+    // Ancestral comum mais próximo e os caminhos de cada nó até ele (ambos inclusive).
+    // Retorna null quando o índice não consegue responder (frio, hash desconhecido ou
+    // cadeia incompleta); ancestor == null quando os dois estão em árvores separadas.
+    public synchronized CommonAncestor commonAncestor(String hashA, String hashB) {
+        if (!ready || hashA == null || hashB == null) return null;
+        Integer idA = ids.get(hashA);
+        Integer idB = ids.get(hashB);
+        if (idA == null || idB == null || depth[idA] < 0 || depth[idB] < 0) return null;
+
+        int a = idA;
+        int b = idB;
+        if (depth[a] < depth[b]) b = lift(b, depth[b] - depth[a]);
+        else if (depth[a] > depth[b]) a = lift(a, depth[a] - depth[b]);
+
+        if (a != b) {
+            for (int k = LOG - 1; k >= 0; k--) {
+                if (up[k][a] != up[k][b]) {
+                    a = up[k][a];
+                    b = up[k][b];
+                }
+            }
+            if (up[0][a] != up[0][b]) return new CommonAncestor(null, List.of(), List.of());
+            a = up[0][a];
+        }
+        return new CommonAncestor(hashes[a], pathUpTo(idA, a), pathUpTo(idB, a));
+    }
+
+    private int lift(int node, int steps) {
+        for (int k = 0; steps > 0; k++, steps >>= 1) {
+            if ((steps & 1) != 0) node = up[k][node];
+        }
+        return node;
+    }
+
+    private List<String> pathUpTo(int from, int ancestor) {
+        List<String> path = new ArrayList<>(depth[from] - depth[ancestor] + 1);
+        int node = from;
+        path.add(hashes[node]);
+        while (node != ancestor) {
+            node = up[0][node];
+            path.add(hashes[node]);
+        }
+        return path;
+    }
+
+    public record CommonAncestor(String ancestor, List<String> pathFromA, List<String> pathFromB) {}
+
+    private static boolean isSentinel(String parentHash) {
+        return parentHash == null
+                || parentHash.isBlank()
+                || parentHash.equalsIgnoreCase("00x00x00");
+    }
+}
@@ -1,12 +1,17 @@
 // PublicClergyService.java
 package com.example.demo.service;
 
+import com.example.demo.dto.CommonAncestorDTO;
 import com.example.demo.model.Clergy;
 import com.example.demo.repository.PublicClergyRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class PublicClergyService {
@@ -17,28 +22,122 @@ public class PublicClergyService {
     @Autowired
     private AnalyticsService analyticsService;
 
+    @Autowired
+    private LineageGraphIndex lineageGraphIndex;
+
+    @Autowired
+    private ClergyNameSearchIndex nameSearchIndex;
+
+    @Autowired
+    private ClergyNodeCache nodeCache;
+
     public List<Clergy> getInitialChain() {
         return publicClergyRepository.findPopesAndRoot();
     }
 
     public List<Clergy> searchByName(String term) {
         if (term == null || term.trim().isEmpty()) return List.of();
-        List<Clergy> results = publicClergyRepository.searchByNameLimit10(term.trim());
+        List<Clergy> results = searchFromIndex(term.trim());
+        if (results == null) results = publicClergyRepository.searchByNameLimit10(term.trim());
 
         results.forEach(c -> analyticsService.recordView(c.getHash()));
         return results;
     }
 
+    // Ranking feito no ClergyNameSearchIndex; o banco só hidrata os 10 primeiros por PK
+    private List<Clergy> searchFromIndex(String term) {
+        List<String> hashes = nameSearchIndex.search(term, 10);
+        if (hashes == null) return null;
+        return hydrate(hashes);
+    }
+
     public List<Clergy> getTracePath(String hash) {
-        List<Clergy> lineage = publicClergyRepository.traceLineageToRoot(hash);
+        List<Clergy> lineage = traceFromIndex(hash);
+        if (lineage == null) lineage = publicClergyRepository.traceLineageToRoot(hash);
 
         if (!lineage.isEmpty()) analyticsService.recordView(hash);
         return lineage;
     }
 
-    public List<Clergy> getByHash(String hash) {
-        List<Clergy> result = publicClergyRepository.findByHash(hash);
-        if (!result.isEmpty()) analyticsService.recordView(hash);
+    // null quando algum dos hashes não existe
+    public CommonAncestorDTO getCommonAncestor(String hashA, String hashB) {
+        CommonAncestorDTO result = commonAncestorFromIndex(hashA, hashB);
+        if (result == null) result = commonAncestorFromTraces(hashA, hashB);
         return result;
     }
+
+    private CommonAncestorDTO commonAncestorFromIndex(String hashA, String hashB) {
+        LineageGraphIndex.CommonAncestor lca = lineageGraphIndex.commonAncestor(hashA, hashB);
+        if (lca == null) return null;
+
+        CommonAncestorDTO dto = new CommonAncestorDTO();
+        if (lca.ancestor() == null) {
+            dto.setPathFromA(List.of());
+            dto.setPathFromB(List.of());
+            return dto;
+        }
+        List<Clergy> pathA = hydrate(lca.pathFromA());
+        List<Clergy> pathB = hydrate(lca.pathFromB());
+        if (pathA == null || pathB == null) return null;
+        dto.setAncestor(pathA.get(pathA.size() - 1));
+        dto.setPathFromA(pathA);
+        dto.setPathFromB(pathB);
+        return dto;
+    }
+
+    // Fallback com as duas CTEs: o primeiro nó do caminho de A que também está no de B
+    private CommonAncestorDTO commonAncestorFromTraces(String hashA, String hashB) {
+        List<Clergy> traceA = publicClergyRepository.traceLineageToRoot(hashA);
+        List<Clergy> traceB = publicClergyRepository.traceLineageToRoot(hashB);
+        if (traceA.isEmpty() || traceB.isEmpty()) return null;
+
+        Set<String> inB = traceB.stream().map(Clergy::getHash).collect(Collectors.toSet());
+        CommonAncestorDTO dto = new CommonAncestorDTO();
+        dto.setPathFromA(List.of());
+        dto.setPathFromB(List.of());
+        for (int i = 0; i < traceA.size(); i++) {
+            String hash = traceA.get(i).getHash();
+            if (!inB.contains(hash)) continue;
+
+            dto.setAncestor(traceA.get(i));
+            dto.setPathFromA(traceA.subList(0, i + 1));
+            for (int j = 0; j < traceB.size(); j++) {
+                if (traceB.get(j).getHash().equals(hash)) {
+                    dto.setPathFromB(traceB.subList(0, j + 1));
+                    break;
+                }
+            }
+            break;
+        }
+        return dto;
+    }
+
+    // Caminho resolvido no LineageGraphIndex; o banco só hidrata as linhas por PK.
+    // null quando o índice está frio ou não conhece o nó.
+    private List<Clergy> traceFromIndex(String hash) {
+        List<String> path = lineageGraphIndex.pathToRoot(hash);
+        if (path == null) return null;
+        return hydrate(path);
+    }
+
+    // Busca as linhas no cache (faltantes por PK) mantendo a ordem dos hashes; null se alguma sumiu
+    private List<Clergy> hydrate(List<String> hashes) {
+        if (hashes.isEmpty()) return List.of();
+        Map<String, Clergy> byHash = nodeCache.getAll(hashes);
+
+        List<Clergy> rows = new ArrayList<>(hashes.size());
+        for (String h : hashes) {
+            Clergy c = byHash.get(h);
+            if (c == null) return null;
+            rows.add(c);
+        }
+        return rows;
+    }
+
+    public List<Clergy> getByHash(String hash) {
+        Clergy node = nodeCache.get(hash);
+        if (node == null) return List.of();
+        analyticsService.recordView(hash);
+        return List.of(node);
+    }
 }
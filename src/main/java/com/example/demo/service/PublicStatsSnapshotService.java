@@ -0,0 +1,155 @@
+// PublicStatsSnapshotService.java
+package com.example.demo.service;
+
+import com.example.demo.dto.PublicStatsDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.repository.DailyVisitRepository;
+import com.example.demo.repository.SiteAnalyticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Snapshot em memória das estatísticas da landing page. Cada mudança publica um
+// PublicStatsDTO novo (nunca alterado depois); o endpoint só lê a referência.
+// Criação de clérigos e flush de analytics atualizam incrementalmente; o timer
+// refaz tudo do banco para corrigir qualquer divergência.
+@Service
+public class PublicStatsSnapshotService {
+
+    static final int RECENT_POPES = 6;
+
+    @Autowired
+    private ClergyRepository clergyRepository;
+
+    @Autowired
+    private SiteAnalyticsRepository siteAnalyticsRepository;
+
+    @Autowired
+    private DailyVisitRepository dailyVisitRepository;
+
+    private volatile Snapshot snapshot;
+
+    // Conta as atualizações incrementais; o rebuild só publica se nada mudou enquanto lia o banco
+    private long mutations;
+
+    // ETag = início do processo + versão, que sobe a cada publicação (sempre sob o lock).
+    // Hash do DTO colidia: dois snapshots diferentes respondiam 304 um pelo outro.
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private long version;
+
+    public record Snapshot(PublicStatsDTO stats, String etag, LocalDate day) {}
+
+    // null até o primeiro rebuild terminar
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.snapshot.rebuild-interval-ms:300000}",
+               initialDelayString = "${stats.snapshot.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long seen;
+                synchronized (this) {
+                    seen = mutations;
+                }
+                PublicStatsDTO stats = loadFromDatabase();
+                synchronized (this) {
+                    if (seen == mutations || attempt == 2) {
+                        publish(stats, LocalDate.now());
+                        return;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("PublicStatsSnapshotService: falha ao recalcular. " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onClergyCreated(ClergyCreatedEvent event) {
+        Snapshot s = snapshot;
+        if (s == null) return;
+        Clergy clergy = event.clergy();
+
+        PublicStatsDTO next = copy(s.stats());
+        if (clergy.getRole() == Clergy.Role.BISHOP) {
+            next.setTotalBishops(next.getTotalBishops() + 1);
+        } else if (clergy.getRole() == Clergy.Role.POPE) {
+            next.setTotalPopes(next.getTotalPopes() + 1);
+            if (clergy.getPapacyStartDate() != null) {
+                List<Clergy> popes = new ArrayList<>(next.getRecentPopes());
+                popes.add(clergy);
+                popes.sort(Comparator.comparing(Clergy::getPapacyStartDate).reversed());
+                next.setRecentPopes(List.copyOf(popes.subList(0, Math.min(RECENT_POPES, popes.size()))));
+            }
+        } else {
+            return;
+        }
+        next.setTotalClergy(next.getTotalBishops() + next.getTotalPopes());
+        mutations++;
+        publish(next, s.day());
+    }
+
+    @EventListener
+    public synchronized void onAnalyticsFlushed(AnalyticsFlushedEvent event) {
+        Snapshot s = snapshot;
+        if (s == null) return;
+
+        LocalDate today = LocalDate.now();
+        PublicStatsDTO next = copy(s.stats());
+        next.setTotalViews(next.getTotalViews() + event.views());
+        long todayDelta = event.dailyViews().getOrDefault(today, 0L);
+        // Virou o dia desde o último snapshot: o contador de hoje recomeça
+        next.setTodayViews(today.equals(s.day()) ? next.getTodayViews() + todayDelta : todayDelta);
+        mutations++;
+        publish(next, today);
+    }
+
+    private PublicStatsDTO loadFromDatabase() {
+        PublicStatsDTO stats = new PublicStatsDTO();
+        long bishops = clergyRepository.countBishops();
+        long popes = clergyRepository.countPopes();
+        stats.setTotalBishops(bishops);
+        stats.setTotalPopes(popes);
+        stats.setTotalClergy(bishops + popes);
+
+        stats.setTotalViews(siteAnalyticsRepository.sumAllViews());
+        Long today = dailyVisitRepository.findTodayViews();
+        stats.setTodayViews(today != null ? today : 0L);
+
+        stats.setRecentPopes(List.copyOf(clergyRepository.findTop6RecentPopes()));
+        return stats;
+    }
+
+    private void publish(PublicStatsDTO stats, LocalDate day) {
+        String etag = "\"" + epoch + "-" + Long.toHexString(++version) + "\"";
+        snapshot = new Snapshot(stats, etag, day);
+    }
+
+    private static PublicStatsDTO copy(PublicStatsDTO source) {
+        PublicStatsDTO copy = new PublicStatsDTO();
+        copy.setTotalBishops(source.getTotalBishops());
+        copy.setTotalPopes(source.getTotalPopes());
+        copy.setTotalClergy(source.getTotalClergy());
+        copy.setTotalViews(source.getTotalViews());
+        copy.setTodayViews(source.getTodayViews());
+        copy.setRecentPopes(source.getRecentPopes());
+        return copy;
+    }
+}
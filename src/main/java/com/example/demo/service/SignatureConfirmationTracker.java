@@ -0,0 +1,145 @@
+// SignatureConfirmationTracker.java
+package com.example.demo.service;
+
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.solana.SolanaRpcGateway.SignatureStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Um único poller para todas as transações em voo: a cada tick consulta até 256
+// assinaturas numa só chamada getSignatureStatuses e completa o future de cada uma.
+@Component
+public class SignatureConfirmationTracker {
+
+    // Limite do RPC para getSignatureStatuses
+    static final int MAX_BATCH = 256;
+
+    @Autowired
+    private SolanaRpcGateway rpc;
+
+    @Value("${solana.confirmation.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    // Ordem de consulta round-robin: quem não resolveu volta para o fim da fila
+    private final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+
+    // Os dependentes (save no banco etc.) rodam aqui, nunca na thread do scheduler
+    private ExecutorService completions;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        completions = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "solana-confirmations-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        completions.shutdown();
+    }
+
+    // Completa com a própria assinatura quando "confirmed"/"finalized";
+    // falha se a transação der erro on-chain ou estourar o timeout.
+    public CompletableFuture<String> track(String signature) {
+        Pending created = new Pending(Instant.now());
+        Pending existing = pending.putIfAbsent(signature, created);
+        if (existing != null) return existing.future;
+
+        order.add(signature);
+        return created.future;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${solana.confirmation.poll-interval-ms:2000}")
+    public void poll() {
+        if (pending.isEmpty()) return;
+
+        List<String> batch = new ArrayList<>(Math.min(MAX_BATCH, pending.size()));
+        String next;
+        while (batch.size() < MAX_BATCH && (next = order.poll()) != null) {
+            if (pending.containsKey(next)) batch.add(next);
+        }
+        if (batch.isEmpty()) return;
+
+        List<SignatureStatus> statuses = null;
+        try {
+            statuses = rpc.getSignatureStatuses(batch);
+        } catch (Exception e) {
+            // RPC pode demorar a responder — tenta de novo no próximo tick
+            System.err.println("SignatureConfirmationTracker: falha no RPC: " + e.getMessage());
+        }
+
+        Instant deadline = Instant.now().minus(Duration.ofSeconds(timeoutSeconds));
+        for (int i = 0; i < batch.size(); i++) {
+            String signature = batch.get(i);
+            SignatureStatus status = statuses != null && i < statuses.size() ? statuses.get(i) : null;
+
+            if (status != null) {
+                if (status.err() != null) {
+                    fail(signature, new RuntimeException(
+                            "Transação falhou na Solana: " + status.err() + ". Verifique: " + explorerUrl(signature)));
+                    continue;
+                }
+                if (status.isConfirmed()) {
+                    complete(signature);
+                    continue;
+                }
+            }
+
+            Pending p = pending.get(signature);
+            if (p != null && p.submittedAt.isBefore(deadline)) {
+                fail(signature, new RuntimeException(
+                        "TX não confirmada em " + timeoutSeconds + "s. Verifique: " + explorerUrl(signature)));
+            } else {
+                order.add(signature);
+            }
+        }
+    }
+
+    private void complete(String signature) {
+        Pending p = pending.remove(signature);
+        if (p != null) completions.execute(() -> p.future.complete(signature));
+    }
+
+    private void fail(String signature, Exception error) {
+        Pending p = pending.remove(signature);
+        if (p != null) completions.execute(() -> p.future.completeExceptionally(error));
+    }
+
+    private static String explorerUrl(String signature) {
+        return "https://explorer.solana.com/tx/" + signature + "?cluster=devnet";
+    }
+
+    private static final class Pending {
+        final Instant submittedAt;
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Pending(Instant submittedAt) {
+            this.submittedAt = submittedAt;
+        }
+    }
+}
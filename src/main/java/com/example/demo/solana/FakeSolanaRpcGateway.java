@@ -0,0 +1,155 @@
+// FakeSolanaRpcGateway.java
+package com.example.demo.solana;
+
+import com.example.demo.util.ChainCodec;
+import com.example.demo.util.TransactionSize;
+import org.p2p.solanaj.core.Account;
+import org.p2p.solanaj.core.AccountMeta;
+import org.p2p.solanaj.core.PublicKey;
+import org.p2p.solanaj.core.Transaction;
+import org.p2p.solanaj.core.TransactionInstruction;
+import org.p2p.solanaj.rpc.RpcException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Ledger em memória (solana.rpc.mode=fake) para rodar o caminho de escrita sem rede.
+// A transação é assinada e serializada de verdade, então tamanho e assinatura são os
+// reais. Como o preflight do nó, rejeita blockhash desconhecido, pacote grande demais
+// e conta que já existe (o init do Anchor). Instruções do programa "criam" as contas
+// graváveis que não assinam: create_clergy grava o layout real da conta Clergy, as
+// demais guardam o data da instrução.
+public class FakeSolanaRpcGateway implements SolanaRpcGateway {
+
+    // Mais ou menos a janela de validade real (~150 slots)
+    private static final int VALID_BLOCKHASHES = 150;
+    private static final byte[] CREATE_CLERGY = ChainCodec.discriminator("create_clergy");
+    private static final byte[] CLERGY_ACCOUNT = ChainCodec.accountDiscriminator("Clergy");
+    private static final byte[] SEED_PREFIX = "clergy".getBytes(StandardCharsets.UTF_8);
+
+    private final PublicKey programId;
+
+    private final Map<String, byte[]> accounts = new HashMap<>();
+    private final Map<String, SignatureStatus> statuses = new HashMap<>();
+    private final Map<String, Boolean> blockhashes = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > VALID_BLOCKHASHES;
+        }
+    };
+    private long slot;
+
+    public FakeSolanaRpcGateway(PublicKey programId) {
+        this.programId = programId;
+        System.out.println("SolanaRpcGateway: modo fake (ledger em memória, sem rede).");
+    }
+
+    @Override
+    public synchronized String getLatestBlockhash() {
+        slot++;
+        String blockhash = new PublicKey(ChainCodec.sha256(("fake-blockhash-" + slot).getBytes(StandardCharsets.UTF_8))).toBase58();
+        blockhashes.put(blockhash, Boolean.TRUE);
+        return blockhash;
+    }
+
+    @Override
+    public synchronized byte[] getAccountData(PublicKey account) {
+        byte[] data = accounts.get(account.toBase58());
+        return data != null ? data.clone() : null;
+    }
+
+    @Override
+    public synchronized List<byte[]> getMultipleAccounts(List<PublicKey> keys) {
+        List<byte[]> result = new ArrayList<>(keys.size());
+        for (PublicKey key : keys) result.add(getAccountData(key));
+        return result;
+    }
+
+    @Override
+    public synchronized List<PublicKey> getProgramAccountKeys(PublicKey programId, byte[] discriminator) {
+        List<PublicKey> keys = new ArrayList<>();
+        if (!programId.equals(this.programId)) return keys;
+        for (Map.Entry<String, byte[]> account : accounts.entrySet()) {
+            byte[] data = account.getValue();
+            if (data.length >= discriminator.length
+                    && Arrays.equals(data, 0, discriminator.length, discriminator, 0, discriminator.length)) {
+                keys.add(new PublicKey(account.getKey()));
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public synchronized List<SignatureStatus> getSignatureStatuses(List<String> signatures) {
+        List<SignatureStatus> result = new ArrayList<>(signatures.size());
+        for (String signature : signatures) result.add(statuses.get(signature));
+        return result;
+    }
+
+    @Override
+    public synchronized String sendTransaction(List<TransactionInstruction> instructions, Account signer, String recentBlockhash)
+            throws RpcException {
+        if (!blockhashes.containsKey(recentBlockhash)) {
+            throw new RpcException("Transaction simulation failed: Blockhash not found");
+        }
+
+        Transaction transaction = new Transaction();
+        instructions.forEach(transaction::addInstruction);
+        transaction.setRecentBlockHash(recentBlockhash);
+        transaction.sign(signer);
+        byte[] wire = transaction.serialize();
+        if (wire.length > TransactionSize.PACKET_DATA_SIZE) {
+            throw new RpcException("Transaction too large: " + wire.length + " > " + TransactionSize.PACKET_DATA_SIZE);
+        }
+
+        Map<String, byte[]> created = new LinkedHashMap<>();
+        for (TransactionInstruction instruction : instructions) {
+            if (!instruction.getProgramId().equals(programId)) continue;
+            for (AccountMeta meta : instruction.getKeys()) {
+                if (!meta.isWritable() || meta.isSigner()) continue;
+                String key = meta.getPublicKey().toBase58();
+                if (accounts.containsKey(key) || created.containsKey(key)) {
+                    throw new RpcException("Transaction simulation failed: Allocate: account Address { address: "
+                            + key + ", base: None } already in use");
+                }
+                created.put(key, accountData(instruction.getData()));
+            }
+        }
+        accounts.putAll(created);
+
+        // Layout do wire: compact-u16 com o nº de assinaturas (1) e a assinatura de 64 bytes
+        String signature = ChainCodec.toBase58(Arrays.copyOfRange(wire, 1, 65));
+        statuses.put(signature, new SignatureStatus("finalized", null));
+        return signature;
+    }
+
+    // create_clergy(hash, ...) -> discriminator da conta + os mesmos campos + bump da PDA
+    private byte[] accountData(byte[] instructionData) throws RpcException {
+        int n = ChainCodec.DISCRIMINATOR_LENGTH;
+        if (instructionData.length < n || !Arrays.equals(instructionData, 0, n, CREATE_CLERGY, 0, n)) {
+            return instructionData.clone();
+        }
+        try {
+            int hashLength = ChainCodec.getU32(instructionData, n);
+            String hash = new String(instructionData, n + 4, hashLength, StandardCharsets.UTF_8);
+            int bump = PublicKey.findProgramAddress(
+                    List.of(SEED_PREFIX, ChainCodec.hashToSeedBytes(hash)), programId).getNonce();
+
+            byte[] data = Arrays.copyOf(instructionData, instructionData.length + 1);
+            System.arraycopy(CLERGY_ACCOUNT, 0, data, 0, n);
+            data[data.length - 1] = (byte) bump;
+            return data;
+        } catch (Exception e) {
+            throw new RpcException("Transaction simulation failed: create_clergy inválido: " + e.getMessage());
+        }
+    }
+
+    public synchronized int accountCount() {
+        return accounts.size();
+    }
+}
@@ -0,0 +1,294 @@
+// HttpSolanaRpcGateway.java
+package com.example.demo.solana;
+
+import com.example.demo.util.ChainCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.p2p.solanaj.core.Account;
+import org.p2p.solanaj.core.PublicKey;
+import org.p2p.solanaj.core.Transaction;
+import org.p2p.solanaj.core.TransactionInstruction;
+import org.p2p.solanaj.rpc.RpcException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JSON-RPC direto sobre um OkHttpClient próprio: o RpcClient do solanaj monta um
+// cliente por instância, sem pool configurável nem prazo por chamada.
+// - cada método tem seu prazo total (solana.rpc.method-timeouts-ms.<método>)
+// - leituras idempotentes são repetidas com backoff exponencial e jitter, preferindo
+//   um endpoint ainda não tentado (failover)
+// - um erro JSON-RPC é resposta válida do nó: não conta como falha do endpoint nem é repetido
+// - o endpoint é escolhido pela menor latência média entre os que têm o circuito fechado
+public class HttpSolanaRpcGateway implements SolanaRpcGateway {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private final SolanaRpcProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final OkHttpClient http;
+    private final List<RpcEndpoint> endpoints = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong ids = new AtomicLong();
+
+    public HttpSolanaRpcGateway(SolanaRpcProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        List<String> urls = properties.endpoints();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("Nenhum endpoint RPC configurado (solana.rpc.url ou solana.rpc.urls).");
+        }
+        for (String url : urls) {
+            RpcEndpoint endpoint = new RpcEndpoint(url, properties.getBreakerFailureThreshold(), properties.getBreakerOpenMs());
+            endpoints.add(endpoint);
+            Gauge.builder("solana.rpc.endpoint.latency", endpoint, RpcEndpoint::latencyMs)
+                    .tag("endpoint", endpoint.name())
+                    .baseUnit("milliseconds")
+                    .description("Latência média (EWMA) do endpoint")
+                    .register(meterRegistry);
+            Gauge.builder("solana.rpc.endpoint.open", endpoint, e -> e.isOpen() ? 1 : 0)
+                    .tag("endpoint", endpoint.name())
+                    .description("1 enquanto o circuit breaker do endpoint está aberto")
+                    .register(meterRegistry);
+        }
+
+        // Sem retry automático do OkHttp: um POST de sendTransaction nunca pode sair duas vezes daqui.
+        // Read/write sem limite: o único prazo é o call.timeout() por método; um timeout de
+        // socket menor cortaria antes os métodos lentos (sendTransaction, getProgramAccounts).
+        http = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(properties.getPoolMaxIdle(), properties.getPoolKeepAliveMs(), TimeUnit.MILLISECONDS))
+                .connectTimeout(properties.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .writeTimeout(0, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(false)
+                .build();
+
+        System.out.println("SolanaRpcGateway: " + endpoints.size() + " endpoint(s) RPC.");
+    }
+
+    @Override
+    public String getLatestBlockhash() throws RpcException {
+        JsonNode result = call("getLatestBlockhash", List.of(), true);
+        return result.path("value").path("blockhash").asText();
+    }
+
+    @Override
+    public byte[] getAccountData(PublicKey account) throws RpcException {
+        JsonNode result = call("getAccountInfo", List.of(account.toBase58(), Map.of("encoding", "base64")), true);
+        JsonNode value = result.path("value");
+        if (value.isMissingNode() || value.isNull()) return null;
+        return Base64.getDecoder().decode(value.path("data").path(0).asText());
+    }
+
+    @Override
+    public List<byte[]> getMultipleAccounts(List<PublicKey> accounts) throws RpcException {
+        List<String> keys = new ArrayList<>(accounts.size());
+        for (PublicKey account : accounts) keys.add(account.toBase58());
+        JsonNode result = call("getMultipleAccounts", List.of(keys, Map.of("encoding", "base64")), true);
+        List<byte[]> data = new ArrayList<>(accounts.size());
+        for (JsonNode item : result.path("value")) {
+            data.add(item.isNull() ? null : Base64.getDecoder().decode(item.path("data").path(0).asText()));
+        }
+        return data;
+    }
+
+    @Override
+    public List<PublicKey> getProgramAccountKeys(PublicKey programId, byte[] discriminator) throws RpcException {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("encoding", "base64");
+        config.put("dataSlice", Map.of("offset", 0, "length", 0));
+        config.put("filters", List.of(Map.of("memcmp", Map.of(
+                "offset", 0,
+                "bytes", ChainCodec.toBase58(discriminator)))));
+        JsonNode result = call("getProgramAccounts", List.of(programId.toBase58(), config), true);
+        List<PublicKey> keys = new ArrayList<>(result.size());
+        for (JsonNode item : result) keys.add(new PublicKey(item.path("pubkey").asText()));
+        return keys;
+    }
+
+    @Override
+    public List<SignatureStatus> getSignatureStatuses(List<String> signatures) throws RpcException {
+        JsonNode result = call("getSignatureStatuses",
+                List.of(signatures, Map.of("searchTransactionHistory", true)), true);
+        List<SignatureStatus> statuses = new ArrayList<>(signatures.size());
+        for (JsonNode item : result.path("value")) {
+            if (item.isNull()) {
+                statuses.add(null);
+                continue;
+            }
+            JsonNode err = item.path("err");
+            statuses.add(new SignatureStatus(
+                    item.path("confirmationStatus").asText(null),
+                    err.isMissingNode() || err.isNull() ? null : objectMapper.convertValue(err, Object.class)));
+        }
+        return statuses;
+    }
+
+    @Override
+    public String sendTransaction(List<TransactionInstruction> instructions, Account signer, String recentBlockhash)
+            throws RpcException {
+        Transaction transaction = new Transaction();
+        instructions.forEach(transaction::addInstruction);
+        transaction.setRecentBlockHash(recentBlockhash);
+        transaction.sign(signer);
+        String encoded = Base64.getEncoder().encodeToString(transaction.serialize());
+
+        JsonNode result = call("sendTransaction", List.of(encoded, Map.of("encoding", "base64")), false);
+        return result.asText();
+    }
+
+    // Mantém a latência dos endpoints fora de uso atualizada e testa os circuitos abertos
+    @Scheduled(fixedDelayString = "${solana.rpc.probe-interval-ms:30000}",
+               initialDelayString = "${solana.rpc.probe-interval-ms:30000}")
+    public void probe() {
+        if (endpoints.size() < 2) return;
+        for (RpcEndpoint endpoint : endpoints) {
+            if (!endpoint.tryAcquire(System.nanoTime())) continue;
+            try {
+                attempt(endpoint, "getHealth", List.of());
+            } catch (Exception e) {
+                // falha já contabilizada em attempt()
+            }
+        }
+    }
+
+    private JsonNode call(String method, List<Object> params, boolean idempotent) throws RpcException {
+        int attempts = idempotent ? Math.max(1, properties.getMaxAttempts()) : 1;
+        Set<RpcEndpoint> tried = new HashSet<>();
+        RpcException last = null;
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            RpcEndpoint endpoint = select(tried);
+            if (endpoint == null) {
+                throw last != null ? last
+                        : new RpcException(method + ": nenhum endpoint RPC disponível (circuitos abertos).");
+            }
+            tried.add(endpoint);
+            try {
+                return attempt(endpoint, method, params);
+            } catch (JsonRpcError e) {
+                throw new RpcException(e.getMessage());
+            } catch (IOException e) {
+                last = new RpcException(method + " em " + endpoint.name() + ": " + e.getMessage());
+            }
+            if (attempt < attempts) sleep(backoffMillis(attempt));
+        }
+        throw last;
+    }
+
+    // Uma chamada num endpoint já reservado (tryAcquire). IOException = falha do endpoint.
+    private JsonNode attempt(RpcEndpoint endpoint, String method, List<Object> params) throws IOException, JsonRpcError {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("jsonrpc", "2.0");
+            body.put("id", ids.incrementAndGet());
+            body.put("method", method);
+            body.put("params", params);
+
+            Request request = new Request.Builder()
+                    .url(endpoint.url())
+                    .post(RequestBody.create(objectMapper.writeValueAsBytes(body), JSON))
+                    .build();
+            Call call = http.newCall(request);
+            call.timeout().timeout(properties.timeoutFor(method), TimeUnit.MILLISECONDS);
+
+            JsonNode response;
+            try (Response r = call.execute()) {
+                if (r.code() == 429 || r.code() >= 500) throw new IOException("HTTP " + r.code());
+                ResponseBody responseBody = r.body();
+                if (!r.isSuccessful() || responseBody == null) {
+                    endpoint.onSuccess(System.nanoTime() - start);
+                    outcome = "rpc_error";
+                    throw new JsonRpcError(method + ": HTTP " + r.code());
+                }
+                response = objectMapper.readTree(responseBody.byteStream());
+            }
+            endpoint.onSuccess(System.nanoTime() - start);
+
+            JsonNode error = response.path("error");
+            if (!error.isMissingNode() && !error.isNull()) {
+                outcome = "rpc_error";
+                throw new JsonRpcError(error.path("message").asText(error.toString()));
+            }
+            outcome = "success";
+            return response.path("result");
+        } catch (IOException | RuntimeException e) {
+            endpoint.onFailure(System.nanoTime());
+            throw e;
+        } finally {
+            Timer.builder("solana.rpc.requests")
+                    .tag("method", method)
+                    .tag("endpoint", endpoint.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Menor latência entre os disponíveis, preferindo quem ainda não foi tentado nesta chamada
+    private RpcEndpoint select(Set<RpcEndpoint> tried) {
+        while (true) {
+            long now = System.nanoTime();
+            RpcEndpoint best = null;
+            for (RpcEndpoint e : endpoints) {
+                if (!e.isAvailable(now)) continue;
+                if (best == null || better(e, best, tried)) best = e;
+            }
+            if (best == null) return null;
+            if (best.tryAcquire(now)) return best;
+        }
+    }
+
+    private static boolean better(RpcEndpoint candidate, RpcEndpoint current, Set<RpcEndpoint> tried) {
+        boolean candidateTried = tried.contains(candidate);
+        boolean currentTried = tried.contains(current);
+        if (candidateTried != currentTried) return !candidateTried;
+        return candidate.latencyMs() < current.latencyMs();
+    }
+
+    // Full jitter: aleatório entre 0 e min(max, base * 2^(tentativa-1))
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(properties.getBackoffMaxMs(), properties.getBackoffBaseMs() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) throws RpcException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException("Interrompido aguardando nova tentativa RPC.");
+        }
+    }
+
+    // O nó respondeu, mas com erro: não é falha de transporte
+    private static final class JsonRpcError extends Exception {
+        JsonRpcError(String message) {
+            super(message);
+        }
+    }
+}
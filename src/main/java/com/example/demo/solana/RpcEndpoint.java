@@ -0,0 +1,86 @@
+// RpcEndpoint.java
+package com.example.demo.solana;
+
+import java.net.URI;
+
+// Estado de um endpoint RPC: latência média (EWMA) e circuit breaker.
+// Fechado -> aberto após N falhas seguidas; passado o tempo aberto, deixa
+// passar uma chamada de teste por vez (meio-aberto) até um sucesso fechar de novo.
+final class RpcEndpoint {
+
+    private static final double ALPHA = 0.2;
+
+    private final String url;
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private double latencyMs;
+    private boolean measured;
+    private int consecutiveFailures;
+    // 0 enquanto fechado
+    private long openUntilNanos;
+    private boolean trialInFlight;
+
+    RpcEndpoint(String url, int failureThreshold, long openMs) {
+        this.url = url;
+        String host = URI.create(url).getHost();
+        this.name = host != null ? host : url;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMs * 1_000_000L;
+    }
+
+    String url() {
+        return url;
+    }
+
+    String name() {
+        return name;
+    }
+
+    // Endpoints nunca medidos contam como 0 ms, então cada um é experimentado logo no início
+    synchronized double latencyMs() {
+        return measured ? latencyMs : 0;
+    }
+
+    synchronized boolean isOpen() {
+        return openUntilNanos != 0;
+    }
+
+    synchronized boolean isAvailable(long now) {
+        if (openUntilNanos == 0) return true;
+        return now >= openUntilNanos && !trialInFlight;
+    }
+
+    // Reserva a chamada; no meio-aberto só uma thread ganha
+    synchronized boolean tryAcquire(long now) {
+        if (openUntilNanos == 0) return true;
+        if (now < openUntilNanos || trialInFlight) return false;
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void onSuccess(long elapsedNanos) {
+        double ms = elapsedNanos / 1_000_000.0;
+        latencyMs = measured ? ALPHA * ms + (1 - ALPHA) * latencyMs : ms;
+        measured = true;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (openUntilNanos != 0) {
+            openUntilNanos = 0;
+            System.out.println("SolanaRpcGateway: circuito fechado para " + name + ".");
+        }
+    }
+
+    synchronized void onFailure(long now) {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            if (openUntilNanos == 0) {
+                System.err.println("SolanaRpcGateway: circuito aberto para " + name
+                        + " após " + consecutiveFailures + " falhas.");
+            }
+            openUntilNanos = now + openNanos;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+// SolanaRpcGateway.java
+package com.example.demo.solana;
+
+import org.p2p.solanaj.core.Account;
+import org.p2p.solanaj.core.PublicKey;
+import org.p2p.solanaj.core.TransactionInstruction;
+import org.p2p.solanaj.rpc.RpcException;
+
+import java.util.List;
+
+// As chamadas RPC que a aplicação faz. Implementações: HttpSolanaRpcGateway (rede,
+// com pool, timeouts, retries e failover) e FakeSolanaRpcGateway (em memória).
+public interface SolanaRpcGateway {
+
+    String getLatestBlockhash() throws RpcException;
+
+    // Dados da conta, ou null quando ela não existe
+    byte[] getAccountData(PublicKey account) throws RpcException;
+
+    // Dados de até 100 contas numa chamada, na mesma ordem; null para as que não existem
+    List<byte[]> getMultipleAccounts(List<PublicKey> accounts) throws RpcException;
+
+    // Só os endereços das contas do programa cujos dados começam com `discriminator`
+    // (dataSlice vazio): os dados vêm depois, em lotes, por getMultipleAccounts
+    List<PublicKey> getProgramAccountKeys(PublicKey programId, byte[] discriminator) throws RpcException;
+
+    // Um item por assinatura, na mesma ordem; null quando o nó não conhece a assinatura
+    List<SignatureStatus> getSignatureStatuses(List<String> signatures) throws RpcException;
+
+    // Assina com `signer` e envia. Nunca é repetido aqui: um timeout não diz se a
+    // transação chegou, e quem decide reenviar é o chamador.
+    String sendTransaction(List<TransactionInstruction> instructions, Account signer, String recentBlockhash)
+            throws RpcException;
+
+    record SignatureStatus(String confirmationStatus, Object err) {
+        public boolean isConfirmed() {
+            return "confirmed".equals(confirmationStatus) || "finalized".equals(confirmationStatus);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// SolanaRpcProperties.java
+package com.example.demo.solana;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Configuração do acesso RPC (prefixo solana.rpc). Ver application.properties.
+@Data
+@ConfigurationProperties(prefix = "solana.rpc")
+public class SolanaRpcProperties {
+
+    public enum Mode { HTTP, FAKE }
+
+    private Mode mode = Mode.HTTP;
+
+    // Endpoint único (legado) ou lista; com os dois, `urls` vence
+    private String url;
+    private List<String> urls = new ArrayList<>();
+
+    // Pool de conexões HTTP compartilhado por todos os endpoints
+    private int poolMaxIdle = 8;
+    private long poolKeepAliveMs = 300_000;
+
+    private long connectTimeoutMs = 3_000;
+    // Prazo total da chamada (conexão + envio + resposta); por método em method-timeouts-ms
+    private long timeoutMs = 10_000;
+    private Map<String, Long> methodTimeoutsMs = new HashMap<>();
+
+    // Só leituras idempotentes são repetidas; sendTransaction tem uma tentativa
+    private int maxAttempts = 3;
+    private long backoffBaseMs = 200;
+    private long backoffMaxMs = 2_000;
+
+    // Falhas seguidas que abrem o circuito de um endpoint, e por quanto tempo
+    private int breakerFailureThreshold = 5;
+    private long breakerOpenMs = 30_000;
+
+    // Intervalo do probe de latência (getHealth) quando há mais de um endpoint
+    private long probeIntervalMs = 30_000;
+
+    public List<String> endpoints() {
+        List<String> list = new ArrayList<>();
+        for (String u : urls) {
+            if (u != null && !u.isBlank()) list.add(u.trim());
+        }
+        if (list.isEmpty() && url != null && !url.isBlank()) list.add(url.trim());
+        return list;
+    }
+
+    public long timeoutFor(String method) {
+        return methodTimeoutsMs.getOrDefault(method, timeoutMs);
+    }
+}
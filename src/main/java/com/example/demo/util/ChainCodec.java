@@ -0,0 +1,363 @@
+package com.example.demo.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Codificação usada no caminho de escrita on-chain: hex, SHA-256, discriminators
+// Anchor e Borsh. Os writers recebem o buffer do chamador e devolvem o próximo
+// offset; os métodos *Data alocam um único array já com o tamanho exato.
+public final class ChainCodec {
+
+    public static final int HASH_LENGTH = 32;
+    public static final int DISCRIMINATOR_LENGTH = 8;
+
+    private static final String IDL = "idl/apostolic_chain.json";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] BASE58 = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+    private static final byte[] HEX_VALUE = new byte[128];
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // Nome da instrução (camelCase do IDL e snake_case do Anchor) -> discriminator
+    private static final Map<String, byte[]> DISCRIMINATORS;
+    // Nome da conta no IDL -> discriminator ("account:" + nome)
+    private static final Map<String, byte[]> ACCOUNT_DISCRIMINATORS;
+
+    private static final byte[] CREATE_CLERGY;
+    private static final byte[] INITIALIZE_GENESIS;
+    private static final byte[] CLERGY_ACCOUNT;
+
+    static {
+        Arrays.fill(HEX_VALUE, (byte) -1);
+        for (int i = 0; i < 10; i++) HEX_VALUE['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUE['a' + i] = (byte) (10 + i);
+            HEX_VALUE['A' + i] = (byte) (10 + i);
+        }
+
+        Map<String, byte[]> discriminators = new HashMap<>();
+        Map<String, byte[]> accountDiscriminators = new HashMap<>();
+        try (InputStream in = ChainCodec.class.getClassLoader().getResourceAsStream(IDL)) {
+            if (in == null) throw new IllegalStateException(IDL + " não encontrado no classpath.");
+            JsonNode idl = new ObjectMapper().readTree(in);
+            for (JsonNode account : idl.path("accounts")) {
+                String name = account.path("name").asText();
+                accountDiscriminators.put(name, Arrays.copyOf(
+                        sha256(("account:" + name).getBytes(StandardCharsets.UTF_8)), DISCRIMINATOR_LENGTH));
+            }
+            for (JsonNode instruction : idl.path("instructions")) {
+                String name = instruction.path("name").asText();
+                String snake = toSnakeCase(name);
+                byte[] discriminator = computeDiscriminator(snake);
+                discriminators.put(name, discriminator);
+                discriminators.put(snake, discriminator);
+            }
+        } catch (Exception e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        DISCRIMINATORS = Map.copyOf(discriminators);
+        ACCOUNT_DISCRIMINATORS = Map.copyOf(accountDiscriminators);
+        CREATE_CLERGY = discriminator("create_clergy");
+        INITIALIZE_GENESIS = discriminator("initialize_genesis");
+        CLERGY_ACCOUNT = accountDiscriminator("Clergy");
+    }
+
+    private ChainCodec() {
+    }
+
+    // --- SHA-256 ---
+
+    public static byte[] sha256(byte[] input) {
+        return SHA256.get().digest(input);
+    }
+
+    // "0x" + 64 hex: formato dos hashes de clérigos
+    public static String sha256Hex0x(String input) {
+        return toHex0x(sha256(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // --- Hex ---
+
+    public static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        writeHex(bytes, out, 0);
+        return new String(out);
+    }
+
+    public static String toHex0x(byte[] bytes) {
+        char[] out = new char[2 + bytes.length * 2];
+        out[0] = '0';
+        out[1] = 'x';
+        writeHex(bytes, out, 2);
+        return new String(out);
+    }
+
+    private static void writeHex(byte[] bytes, char[] out, int at) {
+        for (byte b : bytes) {
+            out[at++] = HEX[(b >> 4) & 0x0f];
+            out[at++] = HEX[b & 0x0f];
+        }
+    }
+
+    // Aceita com ou sem o prefixo "0x"
+    public static byte[] fromHex(String hex) {
+        int start = hex.startsWith("0x") ? 2 : 0;
+        int len = hex.length() - start;
+        if ((len & 1) != 0) throw new IllegalArgumentException("Hex com tamanho ímpar: " + hex);
+        byte[] out = new byte[len / 2];
+        for (int i = 0; i < out.length; i++) {
+            int at = start + 2 * i;
+            out[i] = (byte) ((hexValue(hex, at) << 4) | hexValue(hex, at + 1));
+        }
+        return out;
+    }
+
+    // Formato das linhas gravadas pela API ("0x" + hex minúsculo); aceita outro formato lido da chain
+    public static String normalizeHash(String hash) {
+        return toHex0x(hashToSeedBytes(hash));
+    }
+
+    // Seed da PDA: os 32 bytes do hash, não o texto "0x..."
+    public static byte[] hashToSeedBytes(String hash) {
+        byte[] bytes = fromHex(hash);
+        if (bytes.length != HASH_LENGTH) {
+            throw new IllegalArgumentException("Hash deve ter " + HASH_LENGTH + " bytes: " + hash);
+        }
+        return bytes;
+    }
+
+    private static int hexValue(String hex, int at) {
+        char c = hex.charAt(at);
+        int v = c < 128 ? HEX_VALUE[c] : -1;
+        if (v < 0) throw new IllegalArgumentException("Caractere hex inválido em " + at + ": " + hex);
+        return v;
+    }
+
+    // --- Base58 (assinaturas e chaves) ---
+
+    public static String toBase58(byte[] bytes) {
+        int zeros = 0;
+        while (zeros < bytes.length && bytes[zeros] == 0) zeros++;
+
+        // Divisões sucessivas por 58 sobre uma cópia do número em base 256
+        byte[] number = Arrays.copyOf(bytes, bytes.length);
+        char[] out = new char[bytes.length * 2];
+        int at = out.length;
+        for (int start = zeros; start < number.length; ) {
+            int remainder = 0;
+            for (int i = start; i < number.length; i++) {
+                int value = (remainder << 8) | (number[i] & 0xff);
+                number[i] = (byte) (value / 58);
+                remainder = value % 58;
+            }
+            out[--at] = BASE58[remainder];
+            while (start < number.length && number[start] == 0) start++;
+        }
+        for (int i = 0; i < zeros; i++) out[--at] = BASE58[0];
+        return new String(out, at, out.length - at);
+    }
+
+    // --- Discriminators Anchor ---
+
+    // Cópia do discriminator pré-calculado; aceita o nome do IDL ou em snake_case
+    public static byte[] discriminator(String instruction) {
+        byte[] discriminator = DISCRIMINATORS.get(instruction);
+        if (discriminator == null) {
+            throw new IllegalArgumentException("Instrução não existe no IDL: " + instruction);
+        }
+        return discriminator.clone();
+    }
+
+    public static byte[] accountDiscriminator(String account) {
+        byte[] discriminator = ACCOUNT_DISCRIMINATORS.get(account);
+        if (discriminator == null) {
+            throw new IllegalArgumentException("Conta não existe no IDL: " + account);
+        }
+        return discriminator.clone();
+    }
+
+    private static byte[] computeDiscriminator(String snakeName) {
+        return Arrays.copyOf(sha256(("global:" + snakeName).getBytes(StandardCharsets.UTF_8)), DISCRIMINATOR_LENGTH);
+    }
+
+    static String toSnakeCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) sb.append('_');
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // --- Borsh (little-endian) ---
+
+    // Mesmo resultado de s.getBytes(UTF_8).length, sem alocar
+    public static int utf8Length(String s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                n += 1;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                n += 1; // surrogate solto vira '?', como no getBytes
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+
+    // u32 com o tamanho + bytes UTF-8
+    public static int stringSize(String s) {
+        return 4 + utf8Length(s);
+    }
+
+    public static int putU8(byte[] dst, int at, int value) {
+        dst[at] = (byte) value;
+        return at + 1;
+    }
+
+    public static int putU32(byte[] dst, int at, int value) {
+        dst[at] = (byte) value;
+        dst[at + 1] = (byte) (value >>> 8);
+        dst[at + 2] = (byte) (value >>> 16);
+        dst[at + 3] = (byte) (value >>> 24);
+        return at + 4;
+    }
+
+    public static int putI64(byte[] dst, int at, long value) {
+        for (int i = 0; i < 8; i++) {
+            dst[at + i] = (byte) (value >>> (8 * i));
+        }
+        return at + 8;
+    }
+
+    public static int putBytes(byte[] dst, int at, byte[] src) {
+        System.arraycopy(src, 0, dst, at, src.length);
+        return at + src.length;
+    }
+
+    public static int putString(byte[] dst, int at, String s) {
+        int start = at + 4;
+        int p = start;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                dst[p++] = (byte) c;
+            } else if (c < 0x800) {
+                dst[p++] = (byte) (0xc0 | (c >> 6));
+                dst[p++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                dst[p++] = (byte) (0xf0 | (cp >> 18));
+                dst[p++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                dst[p++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                dst[p++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                dst[p++] = '?';
+            } else {
+                dst[p++] = (byte) (0xe0 | (c >> 12));
+                dst[p++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                dst[p++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        putU32(dst, at, p - start);
+        return p;
+    }
+
+    // Option<i64>: tag 0 (None) ou 1 seguido do valor
+    public static int putOptionI64(byte[] dst, int at, Long value) {
+        if (value == null) return putU8(dst, at, 0);
+        return putI64(dst, putU8(dst, at, 1), value);
+    }
+
+    public static int getU32(byte[] src, int at) {
+        return (src[at] & 0xff)
+                | (src[at + 1] & 0xff) << 8
+                | (src[at + 2] & 0xff) << 16
+                | (src[at + 3] & 0xff) << 24;
+    }
+
+    public static long getI64(byte[] src, int at) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (src[at + i] & 0xff);
+        }
+        return value;
+    }
+
+    // --- Instruções do programa ---
+
+    public static int createClergySize(String hash, String parentHash, String name, Long papacyStartDate) {
+        return DISCRIMINATOR_LENGTH + stringSize(hash) + stringSize(parentHash) + stringSize(name)
+                + 1 + 8 + (papacyStartDate == null ? 1 : 9);
+    }
+
+    // create_clergy(hash, parent_hash, name, role, start_date, papacy_start_date)
+    public static int putCreateClergy(byte[] dst, int at, String hash, String parentHash, String name,
+                                      int role, long startDate, Long papacyStartDate) {
+        at = putBytes(dst, at, CREATE_CLERGY);
+        at = putString(dst, at, hash);
+        at = putString(dst, at, parentHash);
+        at = putString(dst, at, name);
+        at = putU8(dst, at, role);
+        at = putI64(dst, at, startDate);
+        return putOptionI64(dst, at, papacyStartDate);
+    }
+
+    public static byte[] createClergyData(String hash, String parentHash, String name,
+                                          int role, long startDate, Long papacyStartDate) {
+        byte[] data = new byte[createClergySize(hash, parentHash, name, papacyStartDate)];
+        putCreateClergy(data, 0, hash, parentHash, name, role, startDate, papacyStartDate);
+        return data;
+    }
+
+    // initialize_genesis(jesus_hash: [u8; 32], peter_hash: [u8; 32], peter_name, peter_start_date)
+    public static byte[] initializeGenesisData(byte[] jesusHash, byte[] peterHash, String peterName, long peterStartDate) {
+        byte[] data = new byte[DISCRIMINATOR_LENGTH + 2 * HASH_LENGTH + stringSize(peterName) + 8];
+        int at = putBytes(data, 0, INITIALIZE_GENESIS);
+        at = putBytes(data, at, jesusHash);
+        at = putBytes(data, at, peterHash);
+        at = putString(data, at, peterName);
+        putI64(data, at, peterStartDate);
+        return data;
+    }
+
+    // --- Contas do programa ---
+
+    // Clergy { hash, parent_hash, name, role, start_date, papacy_start_date, bump }:
+    // os mesmos campos de create_clergy, com o discriminator da conta e o bump no fim
+    public static byte[] clergyAccountData(String hash, String parentHash, String name,
+                                           int role, long startDate, Long papacyStartDate, int bump) {
+        byte[] data = new byte[createClergySize(hash, parentHash, name, papacyStartDate) + 1];
+        putCreateClergy(data, 0, hash, parentHash, name, role, startDate, papacyStartDate);
+        putBytes(data, 0, CLERGY_ACCOUNT);
+        putU8(data, data.length - 1, bump);
+        return data;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.util;
+
+import com.example.demo.model.Clergy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Decodificador da conta Clergy montado a partir do IDL (accounts -> Clergy -> fields).
+// No carregamento da classe cada campo vira uma operação; decode() só percorre esse
+// array e escreve direto nos setters de Clergy, sem Map intermediário nem reflexão.
+// Campos do IDL que Clergy não conhece são pulados pelo tamanho; um campo conhecido
+// com tipo diferente do esperado falha no carregamento, não no meio da indexação.
+public final class ClergyAccountDecoder {
+
+    private static final String IDL = "idl/apostolic_chain.json";
+
+    // Operações: os campos de Clergy e os saltos genéricos
+    private static final int HASH = 0;
+    private static final int PARENT_HASH = 1;
+    private static final int NAME = 2;
+    private static final int ROLE = 3;
+    private static final int START_DATE = 4;
+    private static final int PAPACY_START_DATE = 5;
+    private static final int BUMP = 6;
+    private static final int SKIP_FIXED = 7;
+    private static final int SKIP_STRING = 8;
+    private static final int SKIP_OPTION_FIXED = 9;
+
+    private static final int[] OPS;
+    // Tamanho em bytes para os saltos fixos; 0 nas demais operações
+    private static final int[] SIZES;
+    // Variante do enum Role no IDL (tag Borsh) -> Clergy.Role
+    private static final Clergy.Role[] ROLES;
+    private static final byte[] DISCRIMINATOR = ChainCodec.accountDiscriminator("Clergy");
+
+    static {
+        try (InputStream in = ClergyAccountDecoder.class.getClassLoader().getResourceAsStream(IDL)) {
+            if (in == null) throw new IllegalStateException(IDL + " não encontrado no classpath.");
+            JsonNode idl = new ObjectMapper().readTree(in);
+
+            ROLES = roles(idl);
+
+            JsonNode fields = null;
+            for (JsonNode account : idl.path("accounts")) {
+                if ("Clergy".equals(account.path("name").asText())) fields = account.path("type").path("fields");
+            }
+            if (fields == null) throw new IllegalStateException("Conta Clergy não existe no IDL.");
+
+            List<int[]> ops = new ArrayList<>();
+            boolean[] seen = new boolean[BUMP + 1];
+            for (JsonNode field : fields) {
+                int[] op = compile(field.path("name").asText(), field.path("type"));
+                if (op[0] <= BUMP) seen[op[0]] = true;
+                ops.add(op);
+            }
+            for (int required : new int[] { HASH, NAME, ROLE, START_DATE }) {
+                if (!seen[required]) throw new IllegalStateException("Campo obrigatório ausente na conta Clergy do IDL.");
+            }
+
+            OPS = ops.stream().mapToInt(op -> op[0]).toArray();
+            SIZES = ops.stream().mapToInt(op -> op[1]).toArray();
+        } catch (Exception e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ClergyAccountDecoder() {
+    }
+
+    // Dados da conta (como vêm do getAccountInfo/getMultipleAccounts) -> linha de clergy.
+    // parent_hash vazio vira null, como no banco. IllegalArgumentException quando o
+    // discriminator não bate ou os dados estão truncados.
+    public static Clergy decode(byte[] data) {
+        int n = ChainCodec.DISCRIMINATOR_LENGTH;
+        if (data == null || data.length < n || !Arrays.equals(data, 0, n, DISCRIMINATOR, 0, n)) {
+            throw new IllegalArgumentException("Não é uma conta Clergy.");
+        }
+        try {
+            Clergy clergy = new Clergy();
+            int at = n;
+            for (int i = 0; i < OPS.length; i++) {
+                switch (OPS[i]) {
+                    case HASH -> {
+                        int length = ChainCodec.getU32(data, at);
+                        clergy.setHash(new String(data, at + 4, length, StandardCharsets.UTF_8));
+                        at += 4 + length;
+                    }
+                    case PARENT_HASH -> {
+                        int length = ChainCodec.getU32(data, at);
+                        if (length != 0) clergy.setParentHash(new String(data, at + 4, length, StandardCharsets.UTF_8));
+                        at += 4 + length;
+                    }
+                    case NAME -> {
+                        int length = ChainCodec.getU32(data, at);
+                        clergy.setName(new String(data, at + 4, length, StandardCharsets.UTF_8));
+                        at += 4 + length;
+                    }
+                    case ROLE -> clergy.setRole(ROLES[data[at++]]);
+                    case START_DATE -> {
+                        clergy.setStartDate(LocalDate.ofEpochDay(ChainCodec.getI64(data, at)));
+                        at += 8;
+                    }
+                    case PAPACY_START_DATE -> {
+                        if (option(data[at++])) {
+                            clergy.setPapacyStartDate(LocalDate.ofEpochDay(ChainCodec.getI64(data, at)));
+                            at += 8;
+                        }
+                    }
+                    case BUMP -> clergy.setPdaBump(data[at++] & 0xff);
+                    case SKIP_FIXED -> at += SIZES[i];
+                    case SKIP_STRING -> at += 4 + ChainCodec.getU32(data, at);
+                    case SKIP_OPTION_FIXED -> {
+                        if (option(data[at++])) at += SIZES[i];
+                    }
+                    default -> throw new IllegalStateException("Operação desconhecida: " + OPS[i]);
+                }
+            }
+            if (at > data.length) throw new IndexOutOfBoundsException(at);
+            return clergy;
+        } catch (IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("Conta Clergy inválida ou truncada.", e);
+        }
+    }
+
+    private static boolean option(byte tag) {
+        if (tag == 0) return false;
+        if (tag == 1) return true;
+        throw new IllegalArgumentException("Tag de Option inválida: " + tag);
+    }
+
+    // {operação, tamanho}
+    private static int[] compile(String name, JsonNode type) {
+        switch (name) {
+            case "hash" -> { return expect(name, type, "string", HASH); }
+            case "parentHash" -> { return expect(name, type, "string", PARENT_HASH); }
+            case "name" -> { return expect(name, type, "string", NAME); }
+            case "startDate" -> { return expect(name, type, "i64", START_DATE); }
+            case "bump" -> { return expect(name, type, "u8", BUMP); }
+            case "role" -> {
+                if (!"Role".equals(type.path("defined").asText())) throw mismatch(name, type);
+                return new int[] { ROLE, 0 };
+            }
+            case "papacyStartDate" -> {
+                if (!"i64".equals(type.path("option").asText())) throw mismatch(name, type);
+                return new int[] { PAPACY_START_DATE, 0 };
+            }
+            default -> {
+                if ("string".equals(type.asText())) return new int[] { SKIP_STRING, 0 };
+                JsonNode inner = type.path("option");
+                if (!inner.isMissingNode()) return new int[] { SKIP_OPTION_FIXED, fixedSize(name, inner) };
+                return new int[] { SKIP_FIXED, fixedSize(name, type) };
+            }
+        }
+    }
+
+    private static int[] expect(String name, JsonNode type, String expected, int op) {
+        if (!expected.equals(type.asText())) throw mismatch(name, type);
+        return new int[] { op, 0 };
+    }
+
+    private static int fixedSize(String name, JsonNode type) {
+        switch (type.asText()) {
+            case "bool", "u8", "i8" -> { return 1; }
+            case "u16", "i16" -> { return 2; }
+            case "u32", "i32", "f32" -> { return 4; }
+            case "u64", "i64", "f64" -> { return 8; }
+            case "u128", "i128" -> { return 16; }
+            case "publicKey", "pubkey" -> { return 32; }
+            default -> {
+                // [T; N]
+                JsonNode array = type.path("array");
+                if (array.isArray() && array.size() == 2) return fixedSize(name, array.get(0)) * array.get(1).asInt();
+                throw mismatch(name, type);
+            }
+        }
+    }
+
+    private static Clergy.Role[] roles(JsonNode idl) {
+        for (JsonNode type : idl.path("types")) {
+            if (!"Role".equals(type.path("name").asText())) continue;
+            List<Clergy.Role> roles = new ArrayList<>();
+            for (JsonNode variant : type.path("type").path("variants")) {
+                roles.add(Clergy.Role.valueOf(variant.path("name").asText().toUpperCase(Locale.ROOT)));
+            }
+            return roles.toArray(new Clergy.Role[0]);
+        }
+        throw new IllegalStateException("Enum Role não existe no IDL.");
+    }
+
+    private static IllegalStateException mismatch(String name, JsonNode type) {
+        return new IllegalStateException("IDL: campo " + name + " da conta Clergy com tipo não suportado: " + type);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Cursor opaco da paginação por keyset: a última chave (data, hash) da página anterior.
+// Para o cliente é só uma string; não carrega offset nem nada que precise de count.
+public record PageCursor(LocalDate date, String hash) {
+
+    public String encode() {
+        String raw = date + "|" + hash;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new PageCursor(LocalDate.parse(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.util;
+
+import org.p2p.solanaj.core.AccountMeta;
+import org.p2p.solanaj.core.PublicKey;
+import org.p2p.solanaj.core.TransactionInstruction;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Tamanho serializado de uma transação legacy, sem precisar assinar.
+// Usado para empacotar o máximo de instruções abaixo do limite do pacote.
+public class TransactionSize {
+
+    // Limite do pacote UDP (IPv6 MTU 1280 - cabeçalhos)
+    public static final int PACKET_DATA_SIZE = 1232;
+
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int PUBKEY_LENGTH = 32;
+    private static final int BLOCKHASH_LENGTH = 32;
+    private static final int MESSAGE_HEADER_LENGTH = 3;
+
+    public static int of(PublicKey feePayer, List<TransactionInstruction> instructions) {
+        Set<String> accounts = new LinkedHashSet<>();
+        Set<String> signers = new HashSet<>();
+        accounts.add(feePayer.toBase58());
+        signers.add(feePayer.toBase58());
+
+        int instructionsSize = 0;
+        for (TransactionInstruction ix : instructions) {
+            for (AccountMeta meta : ix.getKeys()) {
+                String key = meta.getPublicKey().toBase58();
+                accounts.add(key);
+                if (meta.isSigner()) signers.add(key);
+            }
+            accounts.add(ix.getProgramId().toBase58());
+
+            int keyCount = ix.getKeys().size();
+            int dataLength = ix.getData().length;
+            instructionsSize += 1
+                    + compactLength(keyCount) + keyCount
+                    + compactLength(dataLength) + dataLength;
+        }
+
+        return compactLength(signers.size()) + signers.size() * SIGNATURE_LENGTH
+                + MESSAGE_HEADER_LENGTH
+                + compactLength(accounts.size()) + accounts.size() * PUBKEY_LENGTH
+                + BLOCKHASH_LENGTH
+                + compactLength(instructions.size()) + instructionsSize;
+    }
+
+    // Bytes ocupados pelo "compact-u16" da Solana
+    private static int compactLength(int value) {
+        if (value < 0x80) return 1;
+        if (value < 0x4000) return 2;
+        return 3;
+    }
+}
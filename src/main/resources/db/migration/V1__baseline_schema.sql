@@ -0,0 +1,32 @@
+-- Esquema que o ddl-auto=update criava até aqui. Em bancos existentes o Flyway
+-- marca esta versão como baseline e não roda o script; em bancos novos ele cria tudo.
+
+CREATE TABLE IF NOT EXISTS admins (
+    id            BIGSERIAL PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS clergy (
+    hash              VARCHAR(66)  NOT NULL PRIMARY KEY,
+    parent_hash       VARCHAR(66),
+    name              VARCHAR(255) NOT NULL,
+    role              VARCHAR(255) NOT NULL CHECK (role IN ('BISHOP', 'POPE', 'ROOT')),
+    start_date        DATE         NOT NULL,
+    papacy_start_date DATE,
+    created_at        TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS site_analytics (
+    id             BIGSERIAL PRIMARY KEY,
+    entity_hash    VARCHAR(255) UNIQUE,
+    views_count    BIGINT,
+    last_viewed_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS daily_visits (
+    id              BIGSERIAL PRIMARY KEY,
+    visit_date      DATE UNIQUE,
+    total_views     BIGINT,
+    unique_visitors BIGINT
+);
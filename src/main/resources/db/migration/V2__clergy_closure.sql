@@ -0,0 +1,11 @@
+-- Tabela de fechamento da árvore (ver ClergyClosure). IF NOT EXISTS porque bases que
+-- passaram pelo ddl-auto=update já a têm.
+
+CREATE TABLE IF NOT EXISTS clergy_closure (
+    ancestor_hash   VARCHAR(66) NOT NULL,
+    depth           INTEGER     NOT NULL,
+    descendant_hash VARCHAR(66) NOT NULL,
+    PRIMARY KEY (ancestor_hash, depth, descendant_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_clergy_closure_descendant ON clergy_closure (descendant_hash);
@@ -0,0 +1,16 @@
+-- Índices das consultas quentes de clergy. As consultas em ClergyQueries foram escritas
+-- para casar com eles (predicado role = '<literal>', mesma expressão de ordenação);
+-- ClergyQueryPlanTest confere os planos.
+
+-- Bispos por start_date: listagem por keyset, contagem e paginação antiga
+CREATE INDEX IF NOT EXISTS idx_clergy_role_start_date
+    ON clergy (role, start_date, hash);
+
+-- Papas por data de papado, sem data no fim (parcial: só as linhas de papa)
+CREATE INDEX IF NOT EXISTS idx_clergy_popes_papacy
+    ON clergy ((COALESCE(papacy_start_date, DATE '9999-12-31')), hash)
+    WHERE role = 'POPE';
+
+-- Filhos de um nó (backfill da clergy_closure, subida/descida da árvore)
+CREATE INDEX IF NOT EXISTS idx_clergy_parent_hash
+    ON clergy (parent_hash);
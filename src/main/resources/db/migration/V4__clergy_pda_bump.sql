@@ -0,0 +1,4 @@
+-- Bump da PDA de cada clérigo (seeds "clergy" + 32 bytes do hash). Gravado uma vez,
+-- evita refazer a busca do findProgramAddress a cada startup (ver ClergyPdaResolver).
+
+ALTER TABLE clergy ADD COLUMN IF NOT EXISTS pda_bump SMALLINT;
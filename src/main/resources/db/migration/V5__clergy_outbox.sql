@@ -0,0 +1,17 @@
+-- Intenções de escrita on-chain ainda não gravadas em clergy (ver ClergyOutboxRecovery).
+-- A linha entra antes do envio da transação e sai na mesma transação do INSERT em clergy.
+
+CREATE TABLE clergy_outbox (
+    hash              VARCHAR(66)  PRIMARY KEY,
+    parent_hash       VARCHAR(66),
+    name              VARCHAR(255) NOT NULL,
+    role              VARCHAR(255) NOT NULL,
+    start_date        DATE         NOT NULL,
+    papacy_start_date DATE,
+    pda               VARCHAR(44)  NOT NULL,
+    signature         VARCHAR(88),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_clergy_outbox_updated_at ON clergy_outbox (updated_at);
@@ -0,0 +1,11 @@
+-- Progresso do ChainIndexer (contas do programa -> clergy). Uma única linha (id = 1).
+-- last_key fica preenchido enquanto uma execução não termina: a próxima retoma dali.
+
+CREATE TABLE chain_indexer_checkpoint (
+    id            INTEGER      PRIMARY KEY,
+    last_key      VARCHAR(44),
+    started_at    TIMESTAMP(6),
+    completed_at  TIMESTAMP(6),
+    accounts_seen INTEGER      NOT NULL DEFAULT 0,
+    inserted      INTEGER      NOT NULL DEFAULT 0
+);
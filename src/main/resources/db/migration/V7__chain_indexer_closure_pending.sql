@@ -0,0 +1,6 @@
+-- O indexador insere contas fora da ordem pai -> filho; o fechamento de descendentes
+-- só fica completo depois de ClergyDescendantsService.completeClosure(). A marca entra
+-- na mesma transação das linhas e sai só depois que o fechamento terminar.
+
+ALTER TABLE chain_indexer_checkpoint
+    ADD COLUMN closure_pending BOOLEAN NOT NULL DEFAULT FALSE;
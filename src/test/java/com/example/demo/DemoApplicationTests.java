@@ -1,11 +1,35 @@
 package com.example.demo;
 
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
-@SpringBootTest
+// Sobe o contexto sem variáveis de ambiente: RPC em modo FAKE e Postgres embutido
+@SpringBootTest(properties = {
+		"solana.rpc.mode=FAKE",
+		"solana.program.id=HKUdr1NeewdqE3vEzHmAu9waow5p4bHg6V6t4iM5cLhK",
+		"solana.wallet.mnemonic=abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+})
 class DemoApplicationTests {
 
+	private static EmbeddedPostgres postgres;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) throws Exception {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+	}
+
+	@AfterAll
+	static void tearDown() throws Exception {
+		if (postgres != null) postgres.close();
+	}
+
 	@Test
 	void contextLoads() {
 	}
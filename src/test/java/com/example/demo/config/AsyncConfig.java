@@ -1,9 +0,0 @@
-// AsyncConfig.java
-package com.example.demo.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-
-@Configuration
-@EnableAsync
-public class AsyncConfig {}
\ No newline at end of file
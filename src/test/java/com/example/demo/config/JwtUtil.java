@@ -1,53 +0,0 @@
-package com.example.demo.config;
-
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.stereotype.Component;
-
-import java.security.Key;
-import java.util.Date;
-
-@Component
-public class JwtUtil {
-
-    // Chave secreta gerada automaticamente para o algoritmo HS256
-    private static final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    
-    // Tempo de expiração do Token (24 horas)
-    private static final long EXPIRATION_TIME = 86400000; 
-
-    // Método que cria o Token baseado no email do Admin
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(SECRET_KEY)
-                .compact();
-    }
-
-    // Método para extrair o e-mail (subject) do token
-    public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    // Método para validar se o token é autêntico e não expirou
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            // Token inválido, expirado ou assinatura corrompida
-            return false;
-        }
-    }
-}
\ No newline at end of file
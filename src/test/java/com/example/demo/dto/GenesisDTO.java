@@ -1,11 +0,0 @@
-// src/main/java/com/example/demo/dto/GenesisDTO.java
-package com.example.demo.dto;
-
-import lombok.Data;
-import java.time.LocalDate;
-
-@Data
-public class GenesisDTO {
-    private String peterName;
-    private LocalDate peterStartDate;
-}
\ No newline at end of file
@@ -1,9 +0,0 @@
-package com.example.demo.dto;
-
-import lombok.Data;
-
-@Data
-public class LoginDTO {
-    private String email;
-    private String password;
-}
\ No newline at end of file
@@ -1,19 +0,0 @@
-package com.example.demo.model;
-
-import jakarta.persistence.*;
-import lombok.Data;
-
-@Data
-@Entity
-@Table(name = "admins")
-public class Admin {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @Column(unique = true, nullable = false)
-    private String email;
-    
-    @Column(name = "password_hash", nullable = false)
-    private String passwordHash;
-}
\ No newline at end of file
@@ -1,10 +0,0 @@
-package com.example.demo.repository;
-
-import com.example.demo.model.Admin;
-import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
-
-public interface AdminRepository extends JpaRepository<Admin, Long> {
-    Optional<Admin> findByEmail(String email); 
-
-}
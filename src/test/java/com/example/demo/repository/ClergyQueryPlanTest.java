@@ -0,0 +1,104 @@
+package com.example.demo.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Roda as migrations num Postgres embutido, popula uma base de tamanho realista e
+// confere com EXPLAIN que as consultas de ClergyQueries continuam usando os índices.
+class ClergyQueryPlanTest {
+
+	private static EmbeddedPostgres postgres;
+	private static DataSource dataSource;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		postgres = EmbeddedPostgres.start();
+		dataSource = postgres.getPostgresDatabase();
+		Flyway.configure().dataSource(dataSource).load().migrate();
+
+		try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+			st.execute("""
+				INSERT INTO clergy (hash, parent_hash, name, role, start_date, papacy_start_date, created_at)
+				SELECT md5('pope' || i), CASE WHEN i > 1 THEN md5('pope' || (i - 1)) END,
+				       'Papa ' || i, 'POPE', DATE '1000-01-01' + i * 1000,
+				       CASE WHEN i % 50 = 0 THEN NULL ELSE DATE '1000-01-01' + i * 1000 END, NOW()
+				FROM generate_series(1, 300) i
+				""");
+			st.execute("""
+				INSERT INTO clergy (hash, parent_hash, name, role, start_date, papacy_start_date, created_at)
+				SELECT md5('bishop' || i),
+				       CASE WHEN i <= 300 THEN md5('pope' || i) ELSE md5('bishop' || (i / 2)) END,
+				       'Bispo ' || i, 'BISHOP', DATE '1500-01-01' + i, NULL, NOW()
+				FROM generate_series(1, 20000) i
+				""");
+			st.execute("ANALYZE clergy");
+		}
+	}
+
+	@AfterAll
+	static void tearDown() throws Exception {
+		if (postgres != null) postgres.close();
+	}
+
+	@Test
+	void bishopPagesUseRoleStartDateIndex() throws Exception {
+		assertUsesIndex(ClergyQueries.BISHOPS_FIRST_PAGE, Map.of(":limit", "31"), "idx_clergy_role_start_date");
+		assertUsesIndex(ClergyQueries.BISHOPS_AFTER, Map.of(
+				":startDate", "DATE '1520-01-01'",
+				":hash", "'" + "f".repeat(32) + "'",
+				":limit", "31"), "idx_clergy_role_start_date");
+	}
+
+	@Test
+	void popeQueriesUsePartialPapacyIndex() throws Exception {
+		assertUsesIndex(ClergyQueries.POPES, Map.of(), "idx_clergy_popes_papacy");
+		assertUsesIndex(ClergyQueries.POPES_FIRST_PAGE, Map.of(":limit", "21"), "idx_clergy_popes_papacy");
+		assertUsesIndex(ClergyQueries.POPES_AFTER, Map.of(
+				":papacyStartDate", "DATE '1500-01-01'",
+				":hash", "'" + "0".repeat(32) + "'",
+				":limit", "21"), "idx_clergy_popes_papacy");
+		assertUsesIndex(ClergyQueries.RECENT_POPES, Map.of(), "idx_clergy_popes_papacy");
+	}
+
+	@Test
+	void traceWalksPrimaryKey() throws Exception {
+		assertUsesIndex(ClergyQueries.TRACE_TO_ROOT, Map.of(":startHash", "md5('bishop19999')"), "clergy_pkey");
+	}
+
+	@Test
+	void childrenLookupUsesParentHashIndex() throws Exception {
+		assertUsesIndex("SELECT hash FROM clergy WHERE parent_hash = :hash",
+				Map.of(":hash", "md5('bishop500')"), "idx_clergy_parent_hash");
+	}
+
+	private static void assertUsesIndex(String sql, Map<String, String> params, String index) throws Exception {
+		String plan = explain(sql, params);
+		assertTrue(plan.contains("\"Index Name\": \"" + index + "\""), () -> "Esperava " + index + " em:\n" + plan);
+		assertFalse(plan.contains("\"Seq Scan\""), () -> "Seq Scan inesperado em:\n" + plan);
+	}
+
+	private static String explain(String sql, Map<String, String> params) throws Exception {
+		String bound = sql;
+		for (Map.Entry<String, String> p : params.entrySet()) {
+			bound = bound.replace(p.getKey(), p.getValue());
+		}
+		try (Connection con = dataSource.getConnection();
+			 Statement st = con.createStatement();
+			 ResultSet rs = st.executeQuery("EXPLAIN (FORMAT JSON) " + bound)) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
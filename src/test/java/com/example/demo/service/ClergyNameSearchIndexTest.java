@@ -0,0 +1,78 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PublicClergyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+// Buscas concorrentes com inserções que atravessam o crescimento dos arrays (1024 -> 2048).
+// Mais leitores que núcleos: a preempção entre as leituras de search() é o que expõe a
+// corrida. Nenhuma busca pode falhar nem devolver hash nulo.
+class ClergyNameSearchIndexTest {
+
+	private static final int CAPACITY = 1024;
+	private static final int ROUNDS = 50;
+	private static final int READERS = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+
+	@Test
+	void searchDuringResizeNeverFails() throws Exception {
+		for (int round = 0; round < ROUNDS; round++) {
+			ClergyNameSearchIndex index = new ClergyNameSearchIndex();
+			ReflectionTestUtils.setField(index, "publicClergyRepository", mock(PublicClergyRepository.class));
+			index.load();
+			assertTrue(index.isReady());
+			for (int i = 0; i < CAPACITY - 8; i++) index.add("bispo" + i, "Bispo " + i);
+
+			Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+			AtomicBoolean writing = new AtomicBoolean(true);
+			CountDownLatch start = new CountDownLatch(1);
+
+			// Só os nomes novos casam com a busca: cada leitura pega os ids logo depois do crescimento
+			Thread writer = new Thread(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < 16; i++) {
+						index.add("zeferino" + i, "Zeferino " + i);
+						Thread.yield();
+					}
+				} catch (Throwable e) {
+					errors.add(e);
+				} finally {
+					writing.set(false);
+				}
+			});
+			Thread[] readers = new Thread[READERS];
+			for (int r = 0; r < READERS; r++) {
+				readers[r] = new Thread(() -> {
+					try {
+						start.await();
+						while (writing.get()) {
+							for (String hash : index.search("zeferino", 20)) {
+								if (hash == null) throw new AssertionError("hash nulo no resultado");
+							}
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				});
+			}
+
+			for (Thread reader : readers) reader.start();
+			writer.start();
+			start.countDown();
+			writer.join();
+			for (Thread reader : readers) reader.join();
+
+			assertTrue(errors.isEmpty(), () -> "falhas concorrentes: " + errors);
+			assertEquals(16, index.search("zeferino", 20).size());
+		}
+	}
+}
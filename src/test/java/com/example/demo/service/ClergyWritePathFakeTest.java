@@ -0,0 +1,124 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ClergyDTO;
+import com.example.demo.dto.GenesisDTO;
+import com.example.demo.model.Clergy;
+import com.example.demo.repository.ClergyOutboxRepository;
+import com.example.demo.repository.ClergyRepository;
+import com.example.demo.solana.FakeSolanaRpcGateway;
+import com.example.demo.solana.SolanaRpcGateway;
+import com.example.demo.util.ClergyAccountDecoder;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Caminho de escrita inteiro sem rede (solana.rpc.mode=FAKE) sobre um Postgres embutido:
+// genesis -> create_clergy -> SignatureConfirmationTracker -> linha em clergy -> outbox limpo.
+@SpringBootTest(properties = {
+		"solana.rpc.mode=FAKE",
+		"solana.program.id=HKUdr1NeewdqE3vEzHmAu9waow5p4bHg6V6t4iM5cLhK",
+		"solana.wallet.mnemonic=abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about",
+		"solana.confirmation.poll-interval-ms=200",
+		"spring.jpa.show-sql=false"
+})
+class ClergyWritePathFakeTest {
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private ClergyService clergyService;
+
+	@Autowired
+	private ClergyRepository clergyRepository;
+
+	@Autowired
+	private ClergyOutboxRepository outboxRepository;
+
+	@Autowired
+	private ClergyPdaResolver pdaResolver;
+
+	@Autowired
+	private SolanaRpcGateway rpc;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) throws Exception {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+	}
+
+	@AfterAll
+	static void tearDown() throws Exception {
+		if (postgres != null) postgres.close();
+	}
+
+	@Test
+	void genesisThenCreateClergyLandsOnChainAndInDatabase() throws Exception {
+		assertInstanceOf(FakeSolanaRpcGateway.class, rpc);
+
+		GenesisDTO genesis = new GenesisDTO();
+		genesis.setPeterName("Simão Pedro");
+		genesis.setPeterStartDate(LocalDate.of(30, 1, 1));
+		clergyService.initializeGenesis(genesis).get(30, TimeUnit.SECONDS);
+
+		List<Clergy> popes = clergyRepository.findAll().stream()
+				.filter(c -> c.getRole() == Clergy.Role.POPE)
+				.toList();
+		assertEquals(1, popes.size());
+		Clergy peter = popes.get(0);
+		assertNotNull(peter.getParentHash());
+		assertTrue(clergyRepository.existsById(peter.getParentHash()));
+		assertEquals(0, outboxRepository.count());
+
+		ClergyDTO bishop = new ClergyDTO();
+		bishop.setParentHash(peter.getHash());
+		bishop.setName("Lino");
+		bishop.setRole(Clergy.Role.BISHOP);
+		bishop.setStartDate(LocalDate.of(67, 1, 1));
+
+		// A intenção fica no outbox entre o envio e a confirmação
+		AtomicReference<String> signature = new AtomicReference<>();
+		AtomicReference<Boolean> recordedBeforeConfirm = new AtomicReference<>();
+		Clergy saved = clergyService.createClergy(bishop, sig -> {
+			signature.set(sig);
+			recordedBeforeConfirm.set(outboxRepository.existsById(bishop.getHash()));
+		}).get(30, TimeUnit.SECONDS);
+
+		assertNotNull(signature.get());
+		assertTrue(recordedBeforeConfirm.get());
+		assertEquals(bishop.getHash(), saved.getHash());
+
+		// Conta on-chain com o layout real, no endereço da PDA do hash
+		ClergyPdaResolver.Pda pda = pdaResolver.resolve(bishop.getHash());
+		byte[] account = rpc.getAccountData(pda.address());
+		assertNotNull(account);
+		Clergy onChain = ClergyAccountDecoder.decode(account);
+		assertEquals(bishop.getHash(), onChain.getHash());
+		assertEquals(peter.getHash(), onChain.getParentHash());
+		assertEquals("Lino", onChain.getName());
+		assertEquals(pda.bump(), onChain.getPdaBump());
+
+		// Linha gravada com o bump e o outbox limpo na mesma transação
+		Clergy row = clergyRepository.findById(bishop.getHash()).orElseThrow();
+		assertEquals(peter.getHash(), row.getParentHash());
+		assertEquals(pda.bump(), row.getPdaBump());
+		assertFalse(outboxRepository.existsById(bishop.getHash()));
+		assertEquals(0, outboxRepository.count());
+	}
+}
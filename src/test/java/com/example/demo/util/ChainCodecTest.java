@@ -0,0 +1,84 @@
+package com.example.demo.util;
+
+import com.example.demo.model.Clergy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Bytes de referência da codificação antiga (ByteBuffer little-endian em ClergyService):
+// toda escrita on-chain passa por ChainCodec, então qualquer diferença aqui quebra o programa.
+class ChainCodecTest {
+
+	private static final String HASH = "0x" + "ab".repeat(32);
+	private static final String PARENT = "0x" + "cd".repeat(32);
+
+	@Test
+	void createClergyDiscriminatorMatchesOldConstant() {
+		byte[] old = { (byte) 152, (byte) 46, (byte) 13, (byte) 116, (byte) 75, (byte) 132, (byte) 64, (byte) 118 };
+		assertArrayEquals(old, ChainCodec.discriminator("create_clergy"));
+	}
+
+	@Test
+	void createClergyData() {
+		long papacy = LocalDate.of(1978, 10, 16).toEpochDay();
+		byte[] data = ChainCodec.createClergyData(HASH, PARENT, "João Paulo",
+				Clergy.Role.POPE.ordinal(), papacy, papacy);
+		assertEquals("982e0d744b844076"
+				+ "42000000" + hex(HASH)
+				+ "42000000" + hex(PARENT)
+				+ "0b000000" + "4a6fc3a36f205061756c6f"
+				+ "01"
+				+ "8a0c000000000000"
+				+ "01" + "8a0c000000000000",
+				ChainCodec.toHex(data));
+	}
+
+	@Test
+	void createClergyDataWithoutParentOrPapacy() {
+		byte[] data = ChainCodec.createClergyData("h", "", "Ana", Clergy.Role.BISHOP.ordinal(), -1, null);
+		assertEquals("982e0d744b844076" + "0100000068" + "00000000" + "03000000416e61" + "00" + "ffffffffffffffff" + "00",
+				ChainCodec.toHex(data));
+	}
+
+	@Test
+	void initializeGenesisData() {
+		byte[] jesus = new byte[32];
+		byte[] peter = new byte[32];
+		IntStream.range(0, 32).forEach(i -> {
+			jesus[i] = (byte) i;
+			peter[i] = (byte) (32 + i);
+		});
+		byte[] data = ChainCodec.initializeGenesisData(jesus, peter, "Simão Pedro", LocalDate.of(30, 1, 1).toEpochDay());
+		assertEquals("11cd661d235c2b54"
+				+ "000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f"
+				+ "202122232425262728292a2b2c2d2e2f303132333435363738393a3b3c3d3e3f"
+				+ "0c000000" + "53696dc3a36f20506564726f"
+				+ "2630f5ffffffffff",
+				ChainCodec.toHex(data));
+	}
+
+	@Test
+	void putStringEncodesUtf8LikeStringGetBytes() {
+		// 2, 3 e 4 bytes (par de surrogates) e um surrogate solto, que o getBytes troca por '?'
+		for (String s : new String[] { "Ação 𝔊 ✝", "a\uD800b", "" }) {
+			byte[] expected = s.getBytes(StandardCharsets.UTF_8);
+			byte[] data = new byte[ChainCodec.stringSize(s)];
+			assertEquals(data.length, ChainCodec.putString(data, 0, s));
+			assertEquals(expected.length, ChainCodec.getU32(data, 0));
+			assertArrayEquals(expected, Arrays.copyOfRange(data, 4, data.length));
+		}
+		byte[] data = new byte[ChainCodec.stringSize("Ação 𝔊 ✝")];
+		ChainCodec.putString(data, 0, "Ação 𝔊 ✝");
+		assertEquals("0f000000" + "41c3a7c3a36f20f09d948a20e29c9d", ChainCodec.toHex(data));
+	}
+
+	private static String hex(String s) {
+		return ChainCodec.toHex(s.getBytes(StandardCharsets.UTF_8));
+	}
+}